@@ -0,0 +1,165 @@
+package com.zandero.rest;
+
+import com.zandero.rest.data.MethodInvoker;
+import com.zandero.rest.data.MethodInvokerFactory;
+import com.zandero.rest.data.RouteBinder;
+import com.zandero.rest.data.RouteDefinition;
+import com.zandero.utils.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.ws.rs.Path;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Collects all JAX-RS annotations to be transformed into routes
+ */
+public final class AnnotationProcessor {
+
+	private final static Logger log = LoggerFactory.getLogger(AnnotationProcessor.class);
+
+	/**
+	 * compile time generated route binder by REST API class (null if none was generated),
+	 * held by the class itself so class loaders are not kept alive
+	 */
+	private static final ClassValue<RouteBinder> binders = new ClassValue<RouteBinder>() {
+		@Override
+		protected RouteBinder computeValue(Class<?> type) {
+
+			return loadBinder(type);
+		}
+	};
+
+	private AnnotationProcessor() {
+		// hide constructor
+	}
+
+	/**
+	 * Checks class for JAX-RS annotations and returns a list of route definitions to build routes upon
+	 *
+	 * @param clazz to be checked
+	 * @return list of definitions or empty list if none present
+	 */
+	public static Map<RouteDefinition, Method> get(Class clazz) {
+
+		Assert.notNull(clazz, "Missing class with JAX-RS annotations!");
+
+		// base
+		RouteDefinition root = new RouteDefinition(clazz);
+
+		// go over methods ...
+		Map<RouteDefinition, Method> output = new LinkedHashMap<>();
+		for (Method method : clazz.getMethods()) {
+
+			if (method.getAnnotation(Path.class) != null) { // Path must be present
+
+				try {
+					RouteDefinition definition = new RouteDefinition(root, method.getAnnotations());
+					definition.setArguments(method);
+
+					output.put(definition, method);
+
+				} catch (IllegalArgumentException e) {
+
+					throw new IllegalArgumentException(clazz + "." + method.getName() + "() - " + e.getMessage());
+				}
+			}
+		}
+
+		return output;
+	}
+
+	/**
+	 * Provides route definitions and method invokers for given REST API instance
+	 * compile time generated route binder is used if present, otherwise annotations are read via reflection
+	 *
+	 * @param api REST API instance
+	 * @return route definitions with method invokers bound to given instance or empty map if none present
+	 */
+	public static Map<RouteDefinition, MethodInvoker> bind(Object api) {
+
+		Assert.notNull(api, "Missing REST API instance!");
+
+		RouteBinder binder = getBinder(api.getClass());
+		if (binder != null) {
+			return binder.bind(api);
+		}
+
+		Map<RouteDefinition, Method> definitions = get(api.getClass());
+
+		Map<RouteDefinition, MethodInvoker> output = new LinkedHashMap<>();
+		for (RouteDefinition definition : definitions.keySet()) {
+			output.put(definition, MethodInvokerFactory.get(api, definitions.get(definition)));
+		}
+
+		return output;
+	}
+
+	/**
+	 * Finds compile time generated binder for given class
+	 *
+	 * @param clazz REST API class
+	 * @return route binder or null if none was generated
+	 */
+	public static RouteBinder getBinder(Class<?> clazz) {
+
+		return clazz == null ? null : binders.get(clazz);
+	}
+
+	/**
+	 * Looks up generated binders listed in META-INF/services (see rest.vertx.processor)
+	 */
+	private static RouteBinder loadBinder(Class<?> clazz) {
+
+		ClassLoader loader = clazz.getClassLoader();
+		if (loader == null) {
+			return null; // bootstrap class ... no REST API
+		}
+
+		Iterator<RouteBinder> iterator = ServiceLoader.load(RouteBinder.class, loader).iterator();
+		while (true) {
+			try {
+				if (!iterator.hasNext()) {
+					return null; // no binder generated
+				}
+
+				RouteBinder binder = iterator.next();
+				if (binder.getApiClass() == clazz) {
+					return binder;
+				}
+			}
+			catch (ServiceConfigurationError | LinkageError e) {
+				// stale or broken entry ... skip it, REST API is bound via reflection if no other binder matches
+				log.error("Failed to load generated route binder, looking up: " + clazz.getName() + ": " + e.getMessage(), e);
+			}
+		}
+	}
+
+	/**
+	 * Tries to find class with given annotation ... class it's interface or parent class
+	 *
+	 * @param clazz      to search
+	 * @param annotation to search for
+	 * @return found class with annotation or null if no class with given annotation could be found
+	 */
+	public static Class getClassWithAnnotation(Class<?> clazz, Class<? extends Annotation> annotation) {
+		if (clazz.isAnnotationPresent(annotation)) {
+			return clazz;
+		}
+
+		for (Class inter : clazz.getInterfaces()) {
+			if (inter.isAnnotationPresent(annotation)) {
+				return inter;
+			}
+		}
+
+		Class superClass = clazz.getSuperclass();
+		if (superClass != Object.class && superClass != null) {
+			return getClassWithAnnotation(superClass, annotation);
+		}
+
+		return null;
+	}
+}
@@ -0,0 +1,144 @@
+package com.zandero.rest;
+
+import com.zandero.rest.data.RouteDefinition;
+import com.zandero.utils.Assert;
+import io.vertx.core.*;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Executes route handler on a worker thread (same as Route.blockingHandler)
+ * in vert.x worker pool or named shared worker pool, ordered or not as given with {@code @Blocking}
+ *
+ * Named pool executor is obtained once per vert.x context and is closed together with it (verticle undeployed),
+ * pool threads are shared among all executors of the same name
+ *
+ * Calls are counted per pool (vert.x worker pool or named pool) and vert.x instance, next to the pool executor,
+ * calls exceeding max queue of route are rejected with 503 (Service Unavailable) without waiting for a worker
+ */
+final class BlockingHandler implements Handler<RoutingContext> {
+
+	/**
+	 * context data key prefix of named pool executors
+	 */
+	private static final String POOL_KEY = "rest.vertx.worker.pool.";
+
+	/**
+	 * context data key prefix of pool queues
+	 */
+	private static final String QUEUE_KEY = "rest.vertx.worker.queue.";
+
+	/**
+	 * local map holding queue of each pool (by pool name) of vert.x instance
+	 */
+	private static final String QUEUES = "rest.vertx.worker.queues";
+
+	/**
+	 * queue name of vert.x worker pool
+	 */
+	private static final String WORKER_POOL = "";
+
+	private final Handler<RoutingContext> next;
+
+	private final boolean ordered;
+
+	private final String poolName;
+
+	private final int poolSize;
+
+	private final int maxQueue;
+
+	BlockingHandler(RouteDefinition definition, Handler<RoutingContext> next) {
+
+		Assert.notNull(definition, "Missing route definition!");
+		Assert.notNull(next, "Missing route handler!");
+
+		this.next = next;
+
+		ordered = definition.isOrdered();
+		poolName = definition.getWorkerPool();
+		poolSize = definition.getWorkerPoolSize();
+		maxQueue = definition.getMaxQueue();
+	}
+
+	/**
+	 * @return true if vert.x route blocking handler can be used instead (vert.x worker pool, no queue limit)
+	 */
+	static boolean isDefault(RouteDefinition definition) {
+
+		return definition.getWorkerPool() == null && definition.getMaxQueue() < 0;
+	}
+
+	@Override
+	public void handle(RoutingContext context) {
+
+		Context vertxContext = context.vertx().getOrCreateContext();
+
+		RouteQueue queue = getQueue(vertxContext);
+		if (!queue.enter(context, maxQueue)) {
+			return;
+		}
+
+		Handler<Future<Object>> code = future -> {
+			next.handle(context);
+			future.complete();
+		};
+
+		Handler<AsyncResult<Object>> done = result -> {
+
+			queue.leave();
+
+			if (result.failed()) {
+				context.fail(result.cause());
+			}
+		};
+
+		if (poolName == null) {
+			context.vertx().executeBlocking(code, ordered, done);
+		} else {
+			getExecutor(vertxContext).executeBlocking(code, ordered, done);
+		}
+	}
+
+	/**
+	 * @return executor of named pool bound to given (current) vert.x context
+	 */
+	private WorkerExecutor getExecutor(Context context) {
+
+		String key = POOL_KEY + poolName;
+
+		WorkerExecutor executor = context.get(key);
+		if (executor == null) {
+			// close hook is added to current context ... executor is closed when context is (other contexts are not affected)
+			Vertx vertx = context.owner();
+			executor = poolSize > 0 ? vertx.createSharedWorkerExecutor(poolName, poolSize) : vertx.createSharedWorkerExecutor(poolName);
+			context.put(key, executor);
+		}
+
+		return executor;
+	}
+
+	/**
+	 * @return queue of pool shared by all routes using the pool in given vert.x instance (cached in given context)
+	 */
+	private RouteQueue getQueue(Context context) {
+
+		String name = poolName == null ? WORKER_POOL : poolName;
+		String key = QUEUE_KEY + name;
+
+		RouteQueue queue = context.get(key);
+		if (queue == null) {
+			LocalMap<String, RouteQueue> queues = context.owner().sharedData().getLocalMap(QUEUES);
+
+			RouteQueue created = new RouteQueue();
+			queue = queues.putIfAbsent(name, created);
+			if (queue == null) {
+				queue = created;
+			}
+
+			context.put(key, queue);
+		}
+
+		return queue;
+	}
+}
@@ -0,0 +1,288 @@
+package com.zandero.rest;
+
+import com.zandero.rest.data.RouteDefinition;
+import com.zandero.utils.Assert;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerFileUpload;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.FileUpload;
+import io.vertx.ext.web.RoutingContext;
+
+import java.io.File;
+import java.util.UUID;
+
+/**
+ * Reads request body of a single route before calling route handler (replaces globally mounted vert.x BodyHandler)
+ * body is read only for routes expecting a body and only if not already read by some other handler (BodyHandler)
+ *
+ * Multipart file uploads are stored into uploads directory (same as with BodyHandler) and are available via {@code RoutingContext.fileUploads()}
+ */
+final class RequestBodyHandler implements Handler<RoutingContext> {
+
+	private static final int REQUEST_ENTITY_TOO_LARGE = 413;
+
+	/**
+	 * same as vert.x BodyHandler default
+	 */
+	private static final String UPLOADS_DIRECTORY = "file-uploads";
+
+	private final long limit;
+
+	private final Handler<RoutingContext> next;
+
+	/**
+	 * uploads directory is created (asynchronously) with first multipart request of route
+	 */
+	private volatile boolean uploadsDirectory = false;
+
+	RequestBodyHandler(RouteDefinition definition, Handler<RoutingContext> next) {
+
+		Assert.notNull(definition, "Missing route definition!");
+		Assert.notNull(next, "Missing route handler!");
+
+		limit = definition.getBodyLimit();
+		this.next = next;
+	}
+
+	@Override
+	public void handle(RoutingContext context) {
+
+		if (context.getBody() != null) { // already read
+			next.handle(context);
+			return;
+		}
+
+		HttpServerRequest request = context.request();
+		if (limit >= 0 && getContentLength(request) > limit) {
+			context.fail(REQUEST_ENTITY_TOO_LARGE);
+			return;
+		}
+
+		String contentType = getContentType(request);
+		if (isForm(contentType)) {
+			request.setExpectMultipart(true); // form attributes are decoded while reading body
+		}
+
+		new BodyReader(context, isMultipart(contentType)).read();
+	}
+
+	private static long getContentLength(HttpServerRequest request) {
+
+		String length = request.getHeader(HttpHeaders.CONTENT_LENGTH);
+		if (length == null) {
+			return -1;
+		}
+
+		try {
+			return Long.parseLong(length.trim());
+		}
+		catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	private static String getContentType(HttpServerRequest request) {
+
+		String contentType = request.getHeader(HttpHeaders.CONTENT_TYPE);
+		return contentType == null ? "" : contentType.toLowerCase();
+	}
+
+	private static boolean isForm(String contentType) {
+
+		return contentType.startsWith("application/x-www-form-urlencoded") || isMultipart(contentType);
+	}
+
+	private static boolean isMultipart(String contentType) {
+
+		return contentType.startsWith("multipart/form-data");
+	}
+
+	/**
+	 * Collects body of a single request, multipart uploads are streamed to file system (not collected into body)
+	 */
+	private class BodyReader {
+
+		private final RoutingContext context;
+
+		private final boolean multipart;
+
+		private final Buffer body = Buffer.buffer();
+
+		private long size = 0;
+
+		private int uploads = 0;
+
+		private boolean ended = false;
+
+		private boolean failed = false;
+
+		BodyReader(RoutingContext context, boolean multipart) {
+
+			this.context = context;
+			this.multipart = multipart;
+		}
+
+		void read() {
+
+			HttpServerRequest request = context.request();
+
+			if (!multipart || uploadsDirectory) {
+				readBody(request);
+				return;
+			}
+
+			// request is paused until uploads directory is created (exists already in most cases)
+			request.pause();
+			context.vertx().fileSystem().mkdirs(UPLOADS_DIRECTORY, created -> {
+
+				if (created.failed()) {
+					fail(created.cause());
+					return;
+				}
+
+				uploadsDirectory = true;
+
+				readBody(request);
+				request.resume();
+			});
+		}
+
+		private void readBody(HttpServerRequest request) {
+
+			if (multipart) {
+				request.uploadHandler(this::upload);
+			}
+
+			request.handler(chunk -> {
+
+				if (failed) {
+					return;
+				}
+
+				size = size + chunk.length();
+				if (limit >= 0 && size > limit) {
+					fail(REQUEST_ENTITY_TOO_LARGE);
+					return;
+				}
+
+				if (!multipart) { // multipart content is decoded into form attributes and uploads
+					body.appendBuffer(chunk);
+				}
+			});
+
+			request.exceptionHandler(this::fail);
+
+			request.endHandler(end -> {
+				ended = true;
+				done();
+			});
+		}
+
+		private void upload(HttpServerFileUpload upload) {
+
+			if (failed) {
+				return;
+			}
+
+			uploads++;
+
+			String fileName = UPLOADS_DIRECTORY + File.separator + UUID.randomUUID().toString();
+
+			upload.exceptionHandler(this::fail);
+			upload.endHandler(end -> {
+				uploads--;
+				done();
+			});
+
+			upload.streamToFileSystem(fileName);
+			context.fileUploads().add(new UploadedFile(fileName, upload));
+		}
+
+		/**
+		 * route handler is called once request has ended and all uploads are stored
+		 */
+		private void done() {
+
+			if (!failed && ended && uploads == 0) {
+				context.setBody(body);
+				next.handle(context);
+			}
+		}
+
+		private void fail(int status) {
+
+			if (!failed) {
+				failed = true;
+				context.fail(status);
+			}
+		}
+
+		private void fail(Throwable e) {
+
+			if (!failed) {
+				failed = true;
+				context.fail(e);
+			}
+		}
+	}
+
+	/**
+	 * File stored from multipart request
+	 */
+	private static final class UploadedFile implements FileUpload {
+
+		private final String uploadedFileName;
+
+		private final HttpServerFileUpload upload;
+
+		UploadedFile(String uploadedFileName, HttpServerFileUpload upload) {
+
+			this.uploadedFileName = uploadedFileName;
+			this.upload = upload;
+		}
+
+		@Override
+		public String name() {
+
+			return upload.name();
+		}
+
+		@Override
+		public String uploadedFileName() {
+
+			return uploadedFileName;
+		}
+
+		@Override
+		public String fileName() {
+
+			return upload.filename();
+		}
+
+		@Override
+		public long size() {
+
+			return upload.size();
+		}
+
+		@Override
+		public String contentType() {
+
+			return upload.contentType();
+		}
+
+		@Override
+		public String contentTransferEncoding() {
+
+			return upload.contentTransferEncoding();
+		}
+
+		@Override
+		public String charSet() {
+
+			return upload.charset();
+		}
+	}
+}
@@ -0,0 +1,180 @@
+package com.zandero.rest;
+
+import com.zandero.rest.data.ContextProvider;
+import com.zandero.rest.exception.ExceptionHandler;
+import com.zandero.rest.reader.HttpRequestBodyReader;
+import com.zandero.rest.writer.HttpResponseWriter;
+import com.zandero.utils.Assert;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.Router;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.ParamConverter;
+import javax.ws.rs.ext.ParamConverterProvider;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds up a vert.x router with its own writers, readers, exception handlers, parameter converters and context providers
+ * (not shared with other routers or the static RestRouter API)
+ *
+ * Registrations are frozen once router is built
+ */
+public class RestBuilder {
+
+	private final Router router;
+
+	private final RestRegistry registry = new RestRegistry();
+
+	private final List<Object> apis = new ArrayList<>();
+
+	private boolean built = false;
+
+	private boolean routeTree = false;
+
+	public RestBuilder(Vertx vertx) {
+
+		Assert.notNull(vertx, "Missing vertx!");
+		router = Router.router(vertx);
+	}
+
+	public RestBuilder(Router router) {
+
+		Assert.notNull(router, "Missing vert.x router!");
+		this.router = router;
+	}
+
+	/**
+	 * @param restApi instances or classes to search for annotations
+	 * @return builder
+	 */
+	public RestBuilder register(Object... restApi) {
+
+		Assert.notNullOrEmpty(restApi, "Missing REST API class object!");
+		checkNotBuilt();
+
+		apis.addAll(Arrays.asList(restApi));
+		return this;
+	}
+
+	public RestBuilder writer(Class<?> aClass, Class<? extends HttpResponseWriter> writer) {
+
+		checkNotBuilt();
+		registry.writers.register(aClass, writer);
+		return this;
+	}
+
+	public RestBuilder writer(String mediaType, Class<? extends HttpResponseWriter> writer) {
+
+		checkNotBuilt();
+		registry.writers.register(mediaType, writer);
+		return this;
+	}
+
+	public RestBuilder writer(MediaType mediaType, Class<? extends HttpResponseWriter> writer) {
+
+		checkNotBuilt();
+		registry.writers.register(mediaType, writer);
+		return this;
+	}
+
+	public RestBuilder reader(Class<?> aClass, Class<? extends HttpRequestBodyReader> reader) {
+
+		checkNotBuilt();
+		registry.readers.register(aClass, reader);
+		return this;
+	}
+
+	public RestBuilder reader(String mediaType, Class<? extends HttpRequestBodyReader> reader) {
+
+		checkNotBuilt();
+		registry.readers.register(mediaType, reader);
+		return this;
+	}
+
+	public RestBuilder reader(MediaType mediaType, Class<? extends HttpRequestBodyReader> reader) {
+
+		checkNotBuilt();
+		registry.readers.register(mediaType, reader);
+		return this;
+	}
+
+	@SafeVarargs
+	public final RestBuilder errorHandler(Class<? extends ExceptionHandler>... handlers) {
+
+		checkNotBuilt();
+		registry.handlers.register(handlers);
+		return this;
+	}
+
+	public <T> RestBuilder converter(Class<T> type, ParamConverter<T> converter) {
+
+		checkNotBuilt();
+		registry.converters.register(type, converter);
+		return this;
+	}
+
+	public RestBuilder converter(ParamConverterProvider provider) {
+
+		checkNotBuilt();
+		registry.converters.register(provider);
+		return this;
+	}
+
+	public <T> RestBuilder context(Class<T> type, ContextProvider<? extends T> provider) {
+
+		checkNotBuilt();
+		registry.providers.register(type, provider);
+		return this;
+	}
+
+	/**
+	 * Enables caching of role authorization decisions per user and role
+	 *
+	 * @param time time to live of single decision
+	 * @param unit time unit
+	 * @return builder
+	 */
+	public RestBuilder authorizationCache(long time, TimeUnit unit) {
+
+		checkNotBuilt();
+		registry.authorization.setTimeToLive(time, unit);
+		return this;
+	}
+
+	/**
+	 * Resolves routes in a single prebuilt route tree (one vert.x route for all REST routes)
+	 * instead of binding a vert.x route per REST route, regular expression paths are still bound as vert.x routes
+	 *
+	 * @return builder
+	 */
+	public RestBuilder routeTree() {
+
+		checkNotBuilt();
+		routeTree = true;
+		return this;
+	}
+
+	/**
+	 * Freezes registrations and registers routes of all given REST APIs
+	 *
+	 * @return router with registered routes
+	 */
+	public Router build() {
+
+		checkNotBuilt();
+		Assert.isFalse(apis.isEmpty(), "Missing REST API class object!");
+
+		built = true;
+		registry.freeze();
+
+		return RestRouter.register(router, registry, routeTree, apis.toArray());
+	}
+
+	private void checkNotBuilt() {
+
+		Assert.isFalse(built, "Router already built!");
+	}
+}
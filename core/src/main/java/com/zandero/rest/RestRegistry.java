@@ -0,0 +1,39 @@
+package com.zandero.rest;
+
+import com.zandero.rest.data.AuthorizationCache;
+import com.zandero.rest.data.ContextProviderFactory;
+import com.zandero.rest.data.ParamConverterFactory;
+import com.zandero.rest.exception.ExceptionHandlerFactory;
+import com.zandero.rest.reader.ReaderFactory;
+import com.zandero.rest.writer.WriterFactory;
+
+/**
+ * Writers, readers, exception handlers, parameter converters and context providers routes are registered with
+ * RestRouter uses a shared default registry, each RestBuilder has its own (frozen once routes are built)
+ */
+final class RestRegistry {
+
+	final WriterFactory writers = new WriterFactory();
+
+	final ReaderFactory readers = new ReaderFactory();
+
+	final ExceptionHandlerFactory handlers = new ExceptionHandlerFactory();
+
+	final ParamConverterFactory converters = new ParamConverterFactory();
+
+	final ContextProviderFactory providers = new ContextProviderFactory();
+
+	final AuthorizationCache authorization = new AuthorizationCache();
+
+	/**
+	 * Prevents any further registration of writers, readers, exception handlers, converters or context providers
+	 */
+	void freeze() {
+
+		writers.freeze();
+		readers.freeze();
+		handlers.freeze();
+		converters.freeze();
+		providers.freeze();
+	}
+}
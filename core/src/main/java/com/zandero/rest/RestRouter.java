@@ -0,0 +1,649 @@
+package com.zandero.rest;
+
+import com.zandero.rest.data.*;
+import com.zandero.rest.exception.*;
+import com.zandero.rest.reader.HttpRequestBodyReader;
+import com.zandero.rest.reader.ReaderFactory;
+import com.zandero.rest.writer.HttpResponseWriter;
+import com.zandero.rest.writer.StreamingResponseWriter;
+import com.zandero.rest.writer.WriterFactory;
+import com.zandero.utils.Assert;
+import io.vertx.core.*;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.Cookie;
+import io.vertx.ext.web.Route;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.ws.rs.NotAuthorizedException;
+import javax.ws.rs.core.MediaType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds up a vert.x route based on JAX-RS annotation provided in given class
+ */
+public class RestRouter {
+
+	private final static Logger log = LoggerFactory.getLogger(RestRouter.class);
+
+	/**
+	 * shared registry used by static API (use RestBuilder for router specific registries)
+	 */
+	private static final RestRegistry defaults = new RestRegistry();
+
+	/**
+	 * used in case exception handler can't be provided
+	 */
+	private static final ExceptionHandler FALLBACK_HANDLER = new GenericExceptionHandler();
+
+	/**
+	 * Searches for annotations to register routes ...
+	 *
+	 * @param vertx   Vert.X instance
+	 * @param restApi instance to search for annotations
+	 * @return Router new Router with routes as defined in {@code restApi} class
+	 */
+	public static Router register(Vertx vertx, Object... restApi) {
+
+		Assert.notNull(vertx, "Missing vertx!");
+
+		Router router = Router.router(vertx);
+		return register(router, restApi);
+	}
+
+	/**
+	 * Searches for annotations to register routes ...
+	 *
+	 * @param restApi instance to search for annotations
+	 * @param router  to add additional routes from {@code restApi} class
+	 * @return Router with routes as defined in {@code restApi} class
+	 */
+	public static Router register(Router router, Object... restApi) {
+
+		return register(router, defaults, restApi);
+	}
+
+	static Router register(Router router, RestRegistry registry, Object... restApi) {
+
+		return register(router, registry, false, restApi);
+	}
+
+	/**
+	 * @param routeTree true to resolve routes in a single route tree (one vert.x route), false to bind a vert.x route per REST route
+	 */
+	static Router register(Router router, RestRegistry registry, boolean routeTree, Object... restApi) {
+
+		// TODO: split into smaller chucks
+
+		Assert.notNull(router, "Missing vert.x router!");
+		Assert.notNull(registry, "Missing registry!");
+		Assert.isTrue(restApi != null && restApi.length > 0, "Missing REST API class object!");
+		assert restApi != null;
+
+		RouteTree tree = routeTree ? new RouteTree() : null;
+
+		// created upfront to precede routes bound below (vert.x route is added once handler is set)
+		Route treeRoute = routeTree ? router.route() : null;
+
+		for (Object api : restApi) {
+
+			// check if api is an instance of a class or a class type
+			if (api instanceof Class) {
+				Class inspectApi = (Class) api;
+				try {
+					api = ClassFactory.newInstanceOf(inspectApi);
+				} catch (ClassFactoryException e) {
+					throw new IllegalArgumentException(e.getMessage());
+				}
+			}
+
+			// generated route binder or annotations read via reflection
+			Map<RouteDefinition, MethodInvoker> definitions = AnnotationProcessor.bind(api);
+
+			for (RouteDefinition definition : definitions.keySet()) {
+
+				MethodInvoker invoker = definitions.get(definition);
+
+				// resolve writer, reader and exception handlers once (also checks compatibility beforehand)
+				RouteInvocation invocation = getInvocation(api, definition, invoker, registry);
+
+				if (definition.isBlocking() && definition.isVirtual() && !VirtualThreads.isSupported()) {
+					log.warn("Virtual threads are not supported by JDK, using worker pool for route: " + definition);
+				}
+
+				if (tree != null && RouteTree.supports(definition)) {
+
+					log.info("Registering route: " + definition + " (route tree)");
+					tree.add(definition, getRouteHandler(invocation, registry));
+					continue;
+				}
+
+				// bind method execution
+				Route route;
+				if (definition.pathIsRegEx()) {
+					route = router.routeWithRegex(definition.getMethod(), definition.getRoutePath());
+				} else {
+					route = router.route(definition.getMethod(), definition.getRoutePath());
+				}
+
+				log.info("Registering route: " + definition);
+
+				if (definition.getConsumes() != null) {
+					for (MediaType item : definition.getConsumes()) {
+						route.consumes(MediaTypeHelper.getKey(item)); // ignore charset when binding
+					}
+				}
+
+				if (definition.getProduces() != null) {
+					for (MediaType item : definition.getProduces()) {
+						route.produces(MediaTypeHelper.getKey(item)); // ignore charset when binding
+					}
+				}
+
+				if (definition.getOrder() != 0) {
+					route.order(definition.getOrder());
+				}
+
+				if (definition.isBlocking() && !definition.requestHasBody() && !definition.checkSecurity() &&
+				    BlockingHandler.isDefault(definition) && !runOnVirtualThread(definition)) {
+					route.blockingHandler(getHandler(invocation), definition.isOrdered());
+				} else {
+					route.handler(getRouteHandler(invocation, registry));
+				}
+			}
+		}
+
+		if (tree != null && !tree.isEmpty()) {
+
+			// ordered as lowest ordered route bound to tree
+			if (tree.getOrder() != 0) {
+				treeRoute.order(tree.getOrder());
+			}
+
+			treeRoute.handler(tree); // single route resolving all routes bound to tree
+		}
+
+		return router;
+	}
+
+	/**
+	 * Binds handler chain: [read body] -> [security check] -> [blocking | virtual thread] method invocation ... route is matched only once
+	 */
+	private static Handler<RoutingContext> getRouteHandler(RouteInvocation invocation, RestRegistry registry) {
+
+		RouteDefinition definition = invocation.getDefinition();
+
+		Handler<RoutingContext> handler;
+		if (runOnVirtualThread(definition)) {
+			handler = getVirtualThreadHandler(invocation);
+		} else if (definition.isBlocking()) {
+			handler = new BlockingHandler(definition, getHandler(invocation));
+		} else {
+			handler = getHandler(invocation);
+		}
+
+		if (definition.checkSecurity()) {
+			handler = getSecurityHandler(invocation, handler, registry.authorization);
+		}
+
+		if (definition.requestHasBody()) { // body is read for routes expecting a body only
+			handler = new RequestBodyHandler(definition, handler);
+		}
+
+		return handler;
+	}
+
+	private static RouteInvocation getInvocation(Object api, RouteDefinition definition, MethodInvoker invoker, RestRegistry registry) {
+
+		// check body and reader compatibility beforehand
+		HttpRequestBodyReader reader = getBodyReader(definition, registry.readers);
+
+		// check writer compatibility beforehand
+		HttpResponseWriter[] writers = getWriters(definition, registry.writers);
+
+		ExceptionHandler[] exceptionHandlers;
+		try {
+			exceptionHandlers = registry.handlers.getExceptionHandlers(definition.getExceptionHandlers());
+		}
+		catch (ClassFactoryException e) {
+			throw new IllegalArgumentException(definition.toString().trim() + " - " + e.getMessage());
+		}
+
+		// resolve argument converters beforehand
+		ArgumentExtractor[] extractors = ArgumentProvider.getExtractors(definition, reader, registry.converters, registry.providers);
+
+		return new RouteInvocation(api, invoker, definition, writers, reader, extractors, exceptionHandlers, registry.handlers);
+	}
+
+	private static HttpRequestBodyReader getBodyReader(RouteDefinition definition, ReaderFactory readers) {
+
+		if (!definition.requestHasBody() || !definition.hasBodyParameter()) {
+			return null;
+		}
+
+		HttpRequestBodyReader bodyReader = readers.getRequestBodyReader(definition);
+
+		if (bodyReader != null) {
+
+			Type readerType = ClassFactory.getGenericType(bodyReader.getClass());
+			MethodParameter bodyParameter = definition.getBodyParameter();
+
+			ClassFactory.checkIfCompatibleTypes(bodyParameter.getDataType(), readerType, definition.toString().trim() + " - Parameter type: '" +
+					                                                                             bodyParameter.getDataType() + "' not matching reader type: '" +
+					                                                                             readerType + "' in: '" + bodyReader.getClass() + "'");
+		}
+
+		return bodyReader;
+	}
+
+	/**
+	 * @return writer for each produced media type (in order given), or single writer if route does not define produces
+	 */
+	private static HttpResponseWriter[] getWriters(RouteDefinition definition, WriterFactory writers) {
+
+		Class<?> returnType = definition.getResultType(); // writer of asynchronous result type
+		HttpResponseWriter writer = writers.getResponseWriter(returnType, definition);
+		checkWriter(definition, returnType, writer, true);
+
+		MediaType[] produces = definition.getProduces();
+		if (produces == null || produces.length == 0) {
+			return new HttpResponseWriter[]{writer};
+		}
+
+		HttpResponseWriter[] output = new HttpResponseWriter[produces.length];
+		for (int index = 0; index < produces.length; index++) {
+
+			// writer per media type ... in case not compatible with return type, use preferred writer
+			HttpResponseWriter mediaTypeWriter = writers.getResponseWriter(returnType, definition, produces[index]);
+			output[index] = checkWriter(definition, returnType, mediaTypeWriter, false) ? mediaTypeWriter : writer;
+		}
+
+		return output;
+	}
+
+	private static boolean checkWriter(RouteDefinition definition, Class<?> returnType, HttpResponseWriter writer, boolean required) {
+
+		Type writerType = ClassFactory.getGenericType(writer.getClass());
+		if (!required) {
+			return ClassFactory.checkIfCompatibleTypes(returnType, writerType);
+		}
+
+		ClassFactory.checkIfCompatibleTypes(returnType, writerType, definition.toString().trim() + " - Response type: '" +
+				                                                            returnType + "' not matching writer type: '" +
+				                                                            writerType + "' in: '" + writer.getClass() + "'");
+		return true;
+	}
+
+	/**
+	 * Checks user roles (on event loop) and calls route handler once access is granted
+	 */
+	private static Handler<RoutingContext> getSecurityHandler(final RouteInvocation invocation,
+	                                                          Handler<RoutingContext> handler,
+	                                                          AuthorizationCache authorization) {
+
+		RouteDefinition definition = invocation.getDefinition();
+		String challenge = "Not authorized to access: " + definition;
+
+		return context -> RoleAuthorization.check(context.user(), definition, authorization, allowed -> {
+
+			if (allowed) {
+				handler.handle(context);
+			} else {
+				// new exception per request (handlers might change it) ... but without a stack trace
+				handleException(new StacklessNotAuthorizedException(challenge), context, invocation);
+			}
+		});
+	}
+
+	/**
+	 * Not authorized exception created without a stack trace
+	 */
+	private static final class StacklessNotAuthorizedException extends NotAuthorizedException {
+
+		private StacklessNotAuthorizedException(String challenge) {
+
+			super(challenge);
+		}
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+
+			return this; // no stack trace
+		}
+	}
+
+	private static Handler<RoutingContext> getHandler(final RouteInvocation invocation) {
+
+		boolean writesCookies = invocation.getDefinition().writesCookies();
+
+		return context -> {
+
+			if (writesCookies) {
+				addCookieWriter(context);
+			}
+
+			try {
+
+				Object[] args = ArgumentProvider.getArguments(invocation, context);
+
+				Object result = invocation.invoke(args);
+
+				if (invocation.getDefinition().isAsync()) {
+					produceAsyncResponse(result, context, invocation);
+				} else {
+					produceResponse(result, context, invocation);
+				}
+
+			} catch (Exception e) {
+
+				handleException(e, context, invocation);
+			}
+		};
+	}
+
+	/**
+	 * Writes cookies added with {@code RoutingContext.addCookie()} as Set-Cookie headers (replaces globally mounted vert.x CookieHandler)
+	 * cookies already written by some other handler (CookieHandler) are not written twice,
+	 * only added for routes given the RoutingContext (no other way to add a cookie)
+	 */
+	private static void addCookieWriter(RoutingContext context) {
+
+		context.addHeadersEndHandler(end -> {
+
+			if (context.cookieCount() == 0) {
+				return;
+			}
+
+			MultiMap headers = context.response().headers();
+			List<String> written = headers.getAll(HttpHeaders.SET_COOKIE);
+
+			for (Cookie cookie : context.cookies()) {
+				if (cookie.isChanged()) {
+
+					String encoded = cookie.encode();
+					if (!written.contains(encoded)) {
+						headers.add(HttpHeaders.SET_COOKIE, encoded);
+					}
+
+					cookie.setChanged(false);
+				}
+			}
+		});
+	}
+
+	/**
+	 * @return true if method is invoked on a virtual thread, false if not requested or not supported by JDK (worker pool is used)
+	 */
+	private static boolean runOnVirtualThread(RouteDefinition definition) {
+
+		return definition.isBlocking() && definition.isVirtual() && VirtualThreads.isSupported();
+	}
+
+	/**
+	 * Provides arguments on the event loop, invokes method on a virtual thread
+	 * and produces response back on the request's vert.x context (calls over max queue are rejected)
+	 */
+	private static Handler<RoutingContext> getVirtualThreadHandler(final RouteInvocation invocation) {
+
+		RouteQueue queue = new RouteQueue(); // no pool ... calls are counted per route
+		int maxQueue = invocation.getDefinition().getMaxQueue();
+		boolean writesCookies = invocation.getDefinition().writesCookies();
+
+		return context -> {
+
+			if (writesCookies) {
+				addCookieWriter(context);
+			}
+
+			if (!queue.enter(context, maxQueue)) {
+				return;
+			}
+
+			Object[] args;
+			try {
+				args = ArgumentProvider.getArguments(invocation, context);
+			}
+			catch (Exception e) {
+				queue.leave();
+				handleException(e, context, invocation);
+				return;
+			}
+
+			Context vertxContext = context.vertx().getOrCreateContext();
+
+			VirtualThreads.execute(() -> {
+
+				Future<Object> done = Future.future();
+				try {
+					done.complete(invocation.invoke(args));
+				}
+				catch (Throwable e) {
+					done.fail(e);
+				}
+				finally {
+					queue.leave();
+				}
+
+				vertxContext.runOnContext(aVoid -> {
+					if (done.succeeded() && invocation.getDefinition().isAsync()) {
+						produceAsyncResponse(done.result(), context, invocation);
+					} else {
+						completeAsyncResponse(done, context, invocation);
+					}
+				});
+			});
+		};
+	}
+
+	/**
+	 * Waits for asynchronous result to complete and produces response on the request's vert.x context
+	 */
+	private static void produceAsyncResponse(Object result, RoutingContext context, RouteInvocation invocation) {
+
+		Context vertxContext = Vertx.currentContext();
+
+		AsyncResults.handle(result, done -> {
+
+			if (vertxContext == null || vertxContext == Vertx.currentContext()) {
+				completeAsyncResponse(done, context, invocation);
+			} else {
+				// completed on some other thread ... continue on request context
+				vertxContext.runOnContext(aVoid -> completeAsyncResponse(done, context, invocation));
+			}
+		});
+	}
+
+	private static void completeAsyncResponse(AsyncResult<Object> done, RoutingContext context, RouteInvocation invocation) {
+
+		try {
+			if (done.succeeded()) {
+				produceResponse(done.result(), context, invocation);
+			} else {
+				handleException(done.cause(), context, invocation);
+			}
+		}
+		catch (Exception e) {
+			handleException(e, context, invocation);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void handleException(Throwable e, RoutingContext context, final RouteInvocation invocation) {
+
+		Throwable cause = unwrap(e);
+		int status = getStatusCode(cause);
+
+		// get appropriate exception handler/writer ...
+		// route associated handlers are resolved beforehand, globally registered ones are considered only if none matches
+		ExceptionHandler handler;
+		try {
+			handler = invocation.getExceptionHandler(cause.getClass());
+		}
+		catch (ClassFactoryException classException) {
+			// Can't provide exception handler ... rethrow
+			log.error("Can't provide exception handler!", classException);
+			// fall back to generic ...
+			handler = FALLBACK_HANDLER;
+			cause = classException;
+			status = 500;
+		}
+
+		HttpServerResponse response = context.response();
+		response.setStatusCode(status);
+
+		addContentType(context.request(), response, invocation);
+		handler.addResponseHeaders(invocation.getDefinition(), response);
+
+		handler.write(cause, context.request(), context.response());
+
+		// end response ...
+		if (!response.ended()) {
+			response.end();
+		}
+	}
+
+	/**
+	 * unwrap invoke exception ...
+	 */
+	private static Throwable unwrap(Throwable e) {
+
+		while ((e instanceof IllegalAccessException || e instanceof InvocationTargetException) && e.getCause() != null) {
+			e = e.getCause();
+		}
+
+		return e;
+	}
+
+	private static int getStatusCode(Throwable e) {
+
+		if (e instanceof StacklessException) {
+			return ((StacklessException) e).getStatusCode();
+		}
+
+		if (e instanceof IllegalArgumentException) {
+			return 400;
+		}
+
+		return 500;
+	}
+
+	/**
+	 * Negotiates produced media type and sets Content-Type header (if not already set)
+	 *
+	 * @return negotiated media type index
+	 */
+	private static int addContentType(HttpServerRequest request, HttpServerResponse response, RouteInvocation invocation) {
+
+		int index = invocation.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+
+		String contentType = invocation.getContentType(index);
+		if (contentType != null && !response.ended() && !response.headers().contains(HttpHeaders.CONTENT_TYPE)) {
+			response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+		}
+
+		return index;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void produceResponse(Object result, RoutingContext context, RouteInvocation invocation) {
+
+		HttpServerResponse response = context.response();
+		HttpServerRequest request = context.request();
+
+		RouteDefinition definition = invocation.getDefinition();
+
+		// pick writer according to Accept header, add prepared headers in one go
+		int index = invocation.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+		invocation.getResponseHeaders(index).apply(response);
+
+		HttpResponseWriter writer = invocation.getWriter(index);
+
+		// add default response headers per definition
+		writer.addResponseHeaders(definition, response);
+
+		// write response and override headers if necessary
+		writer.write(result, request, response);
+
+		// finish if not finished by writer (streaming writers end response once all content is written)
+		if (!response.ended() && !(writer instanceof StreamingResponseWriter)) {
+			response.end();
+		}
+	}
+
+	public static WriterFactory getWriters() {
+
+		return defaults.writers;
+	}
+
+	public static ReaderFactory getReaders() {
+
+		return defaults.readers;
+	}
+
+	public static ExceptionHandlerFactory getExceptionHandlers() {
+
+		return defaults.handlers;
+	}
+
+	public static ParamConverterFactory getConverters() {
+
+		return defaults.converters;
+	}
+
+	/**
+	 * @return role authorization decision cache (disabled by default, enable by setting time to live)
+	 */
+	public static AuthorizationCache getAuthorizationCache() {
+
+		return defaults.authorization;
+	}
+
+	/**
+	 * @return global {@code @Context} providers by context type
+	 */
+	public static ContextProviderFactory getContextProviders() {
+
+		return defaults.providers;
+	}
+
+	/**
+	 * Pushes object into context storage to be provided as {@code @Context} argument
+	 * object is available under its own class and all super classes and interfaces (replacing any object previously pushed under same type)
+	 *
+	 * @param context routing context
+	 * @param object  to push
+	 */
+	public static void pushContext(RoutingContext context, Object object) {
+
+		Assert.notNull(context, "Missing context!");
+		Assert.notNull(object, "Can't push null into context!");
+
+		for (String key : ArgumentProvider.getContextKeys(object)) {
+			context.put(key, object);
+		}
+	}
+
+	/**
+	 * Pushes object into context storage to be provided as {@code @Context} argument of given type only
+	 *
+	 * @param context routing context
+	 * @param type    of context argument
+	 * @param object  to push
+	 * @param <T>     type
+	 */
+	public static <T> void pushContext(RoutingContext context, Class<T> type, T object) {
+
+		Assert.notNull(context, "Missing context!");
+		Assert.notNull(type, "Missing context type!");
+		Assert.notNull(object, "Can't push null into context!");
+
+		context.put(ArgumentProvider.getContextKey(type), object);
+	}
+}
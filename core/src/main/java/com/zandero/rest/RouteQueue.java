@@ -0,0 +1,39 @@
+package com.zandero.rest;
+
+import io.vertx.core.shareddata.Shareable;
+import io.vertx.ext.web.RoutingContext;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts calls waiting or executing in a worker pool (or of a single virtual thread route),
+ * calls exceeding max queue of route are rejected with 503 (Service Unavailable) without waiting for a thread
+ */
+final class RouteQueue implements Shareable {
+
+	private static final int SERVICE_UNAVAILABLE = 503;
+
+	private final AtomicInteger queued = new AtomicInteger();
+
+	/**
+	 * @param context  to fail in case queue is full
+	 * @param maxQueue max number of calls waiting or executing (-1 no limit)
+	 * @return true if call was accepted (must be followed by {@link #leave()}), false if rejected
+	 */
+	boolean enter(RoutingContext context, int maxQueue) {
+
+		int waiting = queued.incrementAndGet();
+		if (maxQueue >= 0 && waiting > maxQueue) {
+			queued.decrementAndGet();
+			context.fail(SERVICE_UNAVAILABLE); // fail fast ... don't wait for a thread
+			return false;
+		}
+
+		return true;
+	}
+
+	void leave() {
+
+		queued.decrementAndGet();
+	}
+}
@@ -0,0 +1,33 @@
+package com.zandero.rest;
+
+/**
+ * Executes tasks on virtual threads where supported by the JDK
+ *
+ * This implementation is used on JDKs without virtual threads (RestRouter falls back to the vert.x worker pool),
+ * the jar holds a Java 21 implementation in META-INF/versions/21 (multi-release jar)
+ */
+final class VirtualThreads {
+
+	private VirtualThreads() {
+		// hide constructor
+	}
+
+	/**
+	 * @return true if running JDK supports virtual threads
+	 */
+	static boolean isSupported() {
+
+		return false;
+	}
+
+	/**
+	 * Virtual threads are not supported by this JDK
+	 *
+	 * @param task to execute
+	 * @throws IllegalStateException always, check isSupported() first
+	 */
+	static void execute(Runnable task) {
+
+		throw new IllegalStateException("Virtual threads are not supported by running JDK!");
+	}
+}
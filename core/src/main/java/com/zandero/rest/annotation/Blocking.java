@@ -0,0 +1,45 @@
+package com.zandero.rest.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * The REST call block async execution
+ * same as calling vertx.executeBlocking()
+ *
+ * Calls are executed in order (one after another per vert.x context) unless ordered is set to false,
+ * a named pool executes calls in a shared worker pool of given size instead of the vert.x worker pool
+ *
+ * With virtual set to true the method is invoked on a virtual thread and the response is written on the event loop
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Blocking {
+
+	boolean value() default true;
+
+	/**
+	 * @return true to execute calls of the same vert.x context one after another, false to execute them concurrently
+	 */
+	boolean ordered() default true;
+
+	/**
+	 * @return name of shared worker pool or empty to use vert.x worker pool
+	 */
+	String pool() default "";
+
+	/**
+	 * @return size of named worker pool (0 for vert.x default size), the first route creating the pool determines its size
+	 */
+	int poolSize() default 0;
+
+	/**
+	 * @return max number of calls waiting or executing in the pool of this route (counted per pool, or per route for virtual threads), further calls of this route are rejected with 503 (-1 no limit)
+	 */
+	int maxQueue() default -1;
+
+	/**
+	 * @return true to invoke method on a virtual thread (Java 21 or newer), worker pool is used on older JDKs (calls are never ordered)
+	 */
+	boolean virtual() default false;
+}
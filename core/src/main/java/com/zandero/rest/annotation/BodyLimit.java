@@ -0,0 +1,15 @@
+package com.zandero.rest.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Maximum size of request body in bytes, larger requests are rejected with 413 (Request Entity Too Large)
+ * by default request body size is not limited
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface BodyLimit {
+
+	long value();
+}
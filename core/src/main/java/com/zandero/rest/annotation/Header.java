@@ -0,0 +1,18 @@
+package com.zandero.rest.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Static response header added to every response of the REST call (like Cache-Control or Vary)
+ * headers set while processing the request take precedence
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Repeatable(Headers.class)
+public @interface Header {
+
+	String name();
+
+	String value();
+}
@@ -0,0 +1,14 @@
+package com.zandero.rest.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Holder of repeated {@code @Header} annotations
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Headers {
+
+	Header[] value();
+}
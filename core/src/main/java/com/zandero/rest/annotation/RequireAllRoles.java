@@ -0,0 +1,15 @@
+package com.zandero.rest.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * User must be granted all roles listed with {@code @RolesAllowed} to access the REST call
+ * (by default any of the listed roles is sufficient)
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequireAllRoles {
+
+	boolean value() default true;
+}
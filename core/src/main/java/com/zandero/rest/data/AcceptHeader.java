@@ -0,0 +1,244 @@
+package com.zandero.rest.data;
+
+import javax.ws.rs.core.MediaType;
+import java.util.*;
+
+/**
+ * Accept header content negotiation (quality values and wildcards)
+ *
+ * Parsed Accept headers are cached by the raw header value, as clients usually send only a handful of distinct values
+ * (least recently used values are evicted once cache is full)
+ */
+public final class AcceptHeader {
+
+	/**
+	 * max number of cached Accept header values
+	 */
+	static final int CACHE_SIZE = 128;
+
+	private static final MediaRange[] ANY = new MediaRange[]{new MediaRange("*", "*", 1.0f, 0)};
+
+	/**
+	 * cache is split into segments locked separately, so concurrent lookups rarely wait for each other
+	 */
+	private static final int SEGMENTS = 8;
+
+	private static final CacheSegment[] cache = new CacheSegment[SEGMENTS];
+
+	static {
+		for (int index = 0; index < SEGMENTS; index++) {
+			cache[index] = new CacheSegment();
+		}
+	}
+
+	private AcceptHeader() {
+		// hide constructor
+	}
+
+	/**
+	 * Access ordered map evicting least recently used value once full (guarded by itself)
+	 */
+	private static final class CacheSegment extends LinkedHashMap<String, MediaRange[]> {
+
+		private static final int SIZE = CACHE_SIZE / SEGMENTS;
+
+		CacheSegment() {
+
+			super(SIZE * 2, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, MediaRange[]> eldest) {
+
+			return size() > SIZE;
+		}
+	}
+
+	/**
+	 * Single media range of Accept header
+	 */
+	static final class MediaRange {
+
+		final String type;
+
+		final String subtype;
+
+		final float quality;
+
+		/**
+		 * 0 - any, 1 - any subtype, 2 - concrete type
+		 */
+		final int specificity;
+
+		/**
+		 * position in header
+		 */
+		final int position;
+
+		/**
+		 * canonical type/subtype key of concrete type (null for wildcards)
+		 */
+		final String key;
+
+		MediaRange(String type, String subtype, float quality, int position) {
+
+			this.type = type;
+			this.subtype = subtype;
+			this.quality = quality;
+			this.position = position;
+
+			specificity = "*".equals(type) ? 0 : "*".equals(subtype) ? 1 : 2;
+			key = specificity == 2 ? MediaTypeHelper.findKey(type + "/" + subtype) : null;
+		}
+
+		boolean matches(MediaType mediaType) {
+
+			if (specificity == 2 && key == MediaTypeHelper.getInternedKey(mediaType)) {
+				return true; // canonical keys of same type are the same instance
+			}
+
+			return (specificity == 0 || type.equalsIgnoreCase(mediaType.getType())) &&
+			       (specificity < 2 || subtype.equalsIgnoreCase(mediaType.getSubtype()));
+		}
+	}
+
+	/**
+	 * Picks media type to respond with
+	 *
+	 * @param accept   Accept header value (null if not given)
+	 * @param produces media types route is able to produce (in order of preference)
+	 * @return index of produced media type with highest quality, 0 if no Accept header given, or -1 if none is acceptable
+	 */
+	public static int negotiate(String accept, MediaType[] produces) {
+
+		if (produces == null || produces.length == 0) {
+			return -1;
+		}
+
+		if (accept == null || produces.length == 1 && accept.equals(MediaType.WILDCARD)) {
+			return 0;
+		}
+
+		MediaRange[] ranges = parse(accept);
+
+		int found = -1;
+		float best = 0;
+
+		for (int index = 0; index < produces.length; index++) {
+
+			// quality of the most specific matching range
+			MediaRange match = null;
+			for (MediaRange range : ranges) {
+				if (range.matches(produces[index]) && (match == null || range.specificity > match.specificity)) {
+					match = range;
+				}
+			}
+
+			if (match != null && match.quality > best) {
+				best = match.quality;
+				found = index;
+			}
+		}
+
+		return found;
+	}
+
+	/**
+	 * @param accept header value
+	 * @return parsed media ranges in order of given quality (cached)
+	 */
+	static MediaRange[] parse(String accept) {
+
+		if (accept == null) {
+			return ANY;
+		}
+
+		int hash = accept.hashCode();
+		CacheSegment segment = cache[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+
+		MediaRange[] ranges;
+		synchronized (segment) {
+			ranges = segment.get(accept);
+		}
+
+		if (ranges != null) {
+			return ranges;
+		}
+
+		ranges = doParse(accept); // parse outside of lock
+
+		synchronized (segment) {
+			MediaRange[] existing = segment.putIfAbsent(accept, ranges);
+			return existing != null ? existing : ranges;
+		}
+	}
+
+	static int getCacheSize() {
+
+		int size = 0;
+		for (CacheSegment segment : cache) {
+			synchronized (segment) {
+				size = size + segment.size();
+			}
+		}
+
+		return size;
+	}
+
+	static void clearCache() {
+
+		for (CacheSegment segment : cache) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+	private static MediaRange[] doParse(String accept) {
+
+		List<MediaRange> output = new ArrayList<>();
+
+		String[] items = accept.split(",");
+		for (int position = 0; position < items.length; position++) {
+
+			String[] parts = items[position].split(";");
+			String mediaType = parts[0].trim();
+			if (mediaType.isEmpty()) {
+				continue;
+			}
+
+			int slash = mediaType.indexOf('/');
+			String type = slash < 0 ? mediaType : mediaType.substring(0, slash).trim();
+			String subtype = slash < 0 ? "*" : mediaType.substring(slash + 1).trim();
+
+			float quality = 1.0f;
+			for (int index = 1; index < parts.length; index++) {
+
+				String param = parts[index].trim();
+				if (param.startsWith("q=") || param.startsWith("Q=")) {
+					quality = getQuality(param.substring(2));
+				}
+			}
+
+			output.add(new MediaRange(type, subtype, quality, position));
+		}
+
+		// highest quality first, more specific first, then in order given
+		output.sort(Comparator.comparing((MediaRange range) -> -range.quality)
+		                      .thenComparing(range -> -range.specificity)
+		                      .thenComparing(range -> range.position));
+
+		return output.toArray(new MediaRange[0]);
+	}
+
+	private static float getQuality(String value) {
+
+		try {
+			float quality = Float.parseFloat(value.trim());
+			return Math.max(0, Math.min(1, quality));
+		}
+		catch (NumberFormatException e) {
+			return 0; // invalid quality ... not acceptable
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package com.zandero.rest.data;
+
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Extracts and converts a single method argument from current request
+ * (prepared once per argument when route is registered)
+ */
+@FunctionalInterface
+public interface ArgumentExtractor {
+
+	/**
+	 * @param context routing context
+	 * @param request request parameters (shared among all arguments of request)
+	 * @return argument value or null if not present
+	 * @throws IllegalArgumentException in case value is invalid
+	 */
+	Object extract(RoutingContext context, RequestParameters request);
+}
@@ -0,0 +1,491 @@
+package com.zandero.rest.data;
+
+import com.zandero.rest.exception.StacklessException;
+import com.zandero.rest.reader.HttpRequestBodyReader;
+import com.zandero.utils.Assert;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.auth.User;
+import io.vertx.ext.web.Cookie;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.ws.rs.ext.ParamConverter;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts arguments to be provided for given method from definition and current context (request)
+ */
+public class ArgumentProvider {
+
+    private final static Logger log = LoggerFactory.getLogger(ArgumentProvider.class);
+
+    /**
+     * context slot key by context type
+     */
+    private static final ClassValue<String> CONTEXT_KEYS = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+
+            return "RestRouter-" + type.getName();
+        }
+    };
+
+    /**
+     * context slot keys of type and all its super types (except Object)
+     */
+    private static final ClassValue<String[]> CONTEXT_SLOTS = new ClassValue<String[]>() {
+        @Override
+        protected String[] computeValue(Class<?> type) {
+
+            Set<String> keys = new LinkedHashSet<>();
+            addContextKeys(type, keys);
+            return keys.toArray(new String[0]);
+        }
+    };
+
+    /**
+     * Prepares argument extractors for given route, one extractor per method argument (in argument order)
+     *
+     * @param definition route definition
+     * @param bodyReader request body reader or null if route has no body
+     * @param converters parameter converters
+     * @return argument extractors (null slot if argument is not bound to any parameter)
+     */
+    public static ArgumentExtractor[] getExtractors(RouteDefinition definition, HttpRequestBodyReader bodyReader, ParamConverterFactory converters) {
+
+        return getExtractors(definition, bodyReader, converters, new ContextProviderFactory());
+    }
+
+    /**
+     * Prepares argument extractors for given route, one extractor per method argument (in argument order)
+     *
+     * @param definition route definition
+     * @param bodyReader request body reader or null if route has no body
+     * @param converters parameter converters
+     * @param providers  context providers
+     * @return argument extractors (null slot if argument is not bound to any parameter)
+     */
+    public static ArgumentExtractor[] getExtractors(RouteDefinition definition,
+                                                    HttpRequestBodyReader bodyReader,
+                                                    ParamConverterFactory converters,
+                                                    ContextProviderFactory providers) {
+
+        Assert.notNull(definition, "Missing route definition!");
+        Assert.notNull(converters, "Missing parameter converters!");
+        Assert.notNull(providers, "Missing context providers!");
+
+        MethodParameter[] parameters = definition.getArguments();
+        ArgumentExtractor[] extractors = new ArgumentExtractor[parameters.length];
+
+        for (int index = 0; index < parameters.length; index++) {
+            if (parameters[index] != null) {
+                extractors[index] = getExtractor(definition, parameters[index], bodyReader, converters, providers);
+            }
+        }
+
+        return extractors;
+    }
+
+    public static Object[] getArguments(RouteInvocation invocation, RoutingContext context) {
+
+        Assert.notNull(invocation, "Missing route invocation to provide arguments for!");
+        Assert.notNull(context, "Missing vert.x routing context!");
+
+        ArgumentExtractor[] extractors = invocation.getExtractors();
+        if (extractors.length == 0) {
+            return null;    // no arguments needed ...
+        }
+
+        MethodParameter[] parameters = invocation.getParameters();
+        Object[] args = new Object[extractors.length];
+
+        // query is parsed only once for all parameters
+        RequestParameters request = new RequestParameters(context.request());
+
+        MethodParameter missing = null;
+        for (int index = 0; index < extractors.length; index++) {
+
+            if (extractors[index] == null) {
+                continue;
+            }
+
+            args[index] = extractors[index].extract(context, request);
+
+            // primitive arguments must be provided ...
+            if (args[index] == null && missing == null && parameters[index].getDataType().isPrimitive()) {
+                missing = parameters[index];
+            }
+        }
+
+        if (missing != null) {
+            throw new StacklessException("Missing " + missing + " for: " + invocation.getDefinition().getPath());
+        }
+
+        return args;
+    }
+
+    private static ArgumentExtractor getExtractor(RouteDefinition definition,
+                                                  MethodParameter parameter,
+                                                  HttpRequestBodyReader bodyReader,
+                                                  ParamConverterFactory converters,
+                                                  ContextProviderFactory providers) {
+
+        Class<?> dataType = parameter.getDataType();
+        String defaultValue = parameter.getDefaultValue();
+
+        if (ParameterType.query.equals(parameter.getType()) && parameter.isCollection()) { // multi value query param
+
+            ParamConverter<?> converter = getConverter(definition, parameter, parameter.getElementType(), converters);
+            return (context, request) -> getValues(definition, parameter, converter, request);
+        }
+
+        switch (parameter.getType()) {
+
+            case context:
+                ParamConverter<?> defaultConverter = null;
+                if (defaultValue != null) {
+                    defaultConverter = converters.get(dataType, dataType, parameter.getAnnotations());
+                    if (defaultConverter == null) {
+                        log.error("Could not construct: " + dataType + " with default value: '" + defaultValue + "', must provide String only or primitive type constructor!");
+                    }
+                }
+
+                ParamConverter<?> contextConverter = defaultConverter;
+                ContextReader contextReader = getContextReader(definition, dataType, providers); // resolved once per argument
+                boolean builtIn = isBuiltInContext(dataType); // vert.x context might not be present (user, session)
+                String notProvided = "Can't provide @Context of type: " + dataType;
+
+                return (context, request) -> {
+
+                    Object value = contextReader.read(context);
+                    if (value == null) {
+                        value = getDefaultContext(dataType, defaultValue, contextConverter);
+                    }
+
+                    if (value == null && !builtIn) {
+                        throw new StacklessException(notProvided);
+                    }
+
+                    return value;
+                };
+
+            case body:
+                return (context, request) -> {
+
+                    Buffer body = context.getBody();
+
+                    try {
+                        Assert.notNull(bodyReader, "Missing request body reader!");
+
+                        if (body == null) {
+                            return bodyReader.read(defaultValue, dataType);
+                        }
+
+                        return bodyReader.readBuffer(body, dataType); // body is not decoded into String unless needed by reader
+                    }
+                    catch (Exception e) {
+                        throw invalidParameter(definition, parameter, body != null ? "" : defaultValue);
+                    }
+                };
+
+            default:
+                ValueReader reader = getValueReader(definition, parameter);
+                ParamConverter<?> converter = getConverter(definition, parameter, dataType, converters);
+
+                return (context, request) -> {
+
+                    String value = reader.read(context, request);
+                    if (value == null) {
+                        value = defaultValue;
+                    }
+
+                    if (value == null) {
+                        return null;
+                    }
+
+                    try {
+                        return converter.fromString(value);
+                    }
+                    catch (Exception e) {
+                        throw invalidParameter(definition, parameter, value);
+                    }
+                };
+        }
+    }
+
+    private static ParamConverter<?> getConverter(RouteDefinition definition, MethodParameter parameter, Class<?> type, ParamConverterFactory converters) {
+
+        ParamConverter<?> converter = converters.get(type, type, parameter.getAnnotations());
+        Assert.notNull(converter, "No parameter converter for: " + type.getName() + " " + parameter + " for: " + definition.getPath() +
+                                  ", register converter via RestRouter.getConverters().register()");
+        return converter;
+    }
+
+    /**
+     * Reads raw (string) value of parameter from request
+     */
+    @FunctionalInterface
+    private interface ValueReader {
+
+        String read(RoutingContext context, RequestParameters request);
+    }
+
+    private static ValueReader getValueReader(RouteDefinition definition, MethodParameter param) {
+
+        String name = param.getName();
+
+        switch (param.getType()) {
+            case path:
+
+                if (definition.pathIsRegEx()) { // RegEx is special, all values are captured by a single match of compiled path
+                    Pattern pattern = definition.getPathPattern();
+                    String group = param.getPathGroup();
+                    Assert.notNull(group, "Missing path group for: " + param + " for: " + definition.getPath());
+
+                    return (context, request) -> request.getPathParam(pattern, group);
+                }
+
+                return (context, request) -> context.request().getParam(name);
+
+            case query:
+                return (context, request) -> request.getQuery(name);
+
+            case cookie:
+                return (context, request) -> {
+                    Cookie cookie = context.getCookie(name); // in case CookieHandler is used
+                    return cookie == null ? request.getCookie(name) : cookie.getValue();
+                };
+
+            case form:
+                return (context, request) -> request.getForm(name);
+
+            case header:
+                return (context, request) -> request.getHeader(name);
+
+            default:
+                return (context, request) -> null;
+        }
+    }
+
+    private static IllegalArgumentException invalidParameter(RouteDefinition definition, MethodParameter parameter, String value) {
+
+        String providedType = value != null ? value.getClass().getSimpleName() : "null";
+        return new StacklessException(
+            "Invalid parameter type for: " + parameter + " for: " + definition.getPath() + ", expected: " + parameter.getDataType().getTypeName() + ", but got: " + providedType);
+    }
+
+    /**
+     * Provides collection of (multi value) query parameter values
+     *
+     * @param definition route definition
+     * @param param      collection parameter
+     * @param converter  collection element converter
+     * @param request    request parameters
+     * @return List, Set or other collection of converted values, empty if none given
+     */
+    private static Collection<Object> getValues(RouteDefinition definition, MethodParameter param, ParamConverter<?> converter, RequestParameters request) {
+
+        List<String> values = request.getQueryValues(param.getName());
+        if (values.isEmpty() && param.getDefaultValue() != null) {
+            values = Collections.singletonList(param.getDefaultValue());
+        }
+
+        Collection<Object> output = newCollection(param.getDataType());
+        Class<?> elementType = param.getElementType();
+
+        for (String value : values) {
+
+            Object converted;
+            try {
+                converted = converter.fromString(value);
+            }
+            catch (Exception e) {
+                converted = null;
+            }
+
+            if (converted == null) {
+                throw new StacklessException(
+                    "Invalid parameter type for: " + param + " for: " + definition.getPath() + ", expected: " + elementType.getTypeName() + ", but got: " + value);
+            }
+
+            output.add(converted);
+        }
+
+        return output;
+    }
+
+    private static Collection<Object> newCollection(Class<?> type) {
+
+        if (SortedSet.class.isAssignableFrom(type)) {
+            return new TreeSet<>();
+        }
+
+        if (Set.class.isAssignableFrom(type)) {
+            return new LinkedHashSet<>();
+        }
+
+        return new ArrayList<>();
+    }
+
+    /**
+     * Reads context value from current request
+     */
+    @FunctionalInterface
+    private interface ContextReader {
+
+        Object read(RoutingContext context);
+    }
+
+    /**
+     * Resolves how context of desired type is provided: vert.x context, registered provider or pushed context
+     *
+     * @param definition route definition
+     * @param type       context type
+     * @param providers  registered context providers
+     * @return context reader
+     */
+    private static ContextReader getContextReader(RouteDefinition definition, Class<?> type, ContextProviderFactory providers) {
+
+        // vert.x context
+        if (type.isAssignableFrom(HttpServerResponse.class)) {
+            return RoutingContext::response;
+        }
+
+        if (type.isAssignableFrom(HttpServerRequest.class)) {
+            return RoutingContext::request;
+        }
+
+        if (type.isAssignableFrom(RoutingContext.class)) {
+            return context -> context;
+        }
+
+        if (type.isAssignableFrom(Vertx.class)) {
+            return RoutingContext::vertx;
+        }
+
+        if (type.isAssignableFrom(User.class)) {
+            return RoutingContext::user;
+        }
+
+        if (type.isAssignableFrom(Session.class)) {
+            return RoutingContext::session;
+        }
+
+        // internal context
+        if (type.isAssignableFrom(RouteDefinition.class)) {
+            return context -> definition;
+        }
+
+        // registered provider
+        ContextProvider<?> provider = providers.get(type);
+        if (provider != null) {
+            return context -> {
+                Object value = provider.provide(context);
+                return value != null ? value : findContextData(context, type);
+            };
+        }
+
+        // context pushed into context storage (typed slot), or put into context data under any other key
+        String key = getContextKey(type);
+        return context -> {
+            Object value = context.get(key);
+            return value != null ? value : findContextData(context, type);
+        };
+    }
+
+    /**
+     * @return true if context is provided by vert.x or internally (might be null if not present, i.e. no user)
+     */
+    private static boolean isBuiltInContext(Class<?> type) {
+
+        return type.isAssignableFrom(HttpServerResponse.class) ||
+               type.isAssignableFrom(HttpServerRequest.class) ||
+               type.isAssignableFrom(RoutingContext.class) ||
+               type.isAssignableFrom(Vertx.class) ||
+               type.isAssignableFrom(User.class) ||
+               type.isAssignableFrom(Session.class) ||
+               type.isAssignableFrom(RouteDefinition.class);
+    }
+
+    /**
+     * Browses through context data for object of given type (slow path, typed slot is checked first)
+     */
+    private static Object findContextData(RoutingContext context, Class<?> type) {
+
+        if (context.data() != null) {
+            for (Object item : context.data().values()) {
+                if (type.isInstance(item)) {
+                    return item;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static Object getDefaultContext(Class<?> type, String defaultValue, ParamConverter<?> defaultConverter) {
+
+        if (defaultValue != null && defaultConverter != null) {
+            // create Context type on the fly from default value
+            try {
+                return defaultConverter.fromString(defaultValue);
+            }
+            catch (RuntimeException e) {
+                log.error("Could not construct: " + type + " with default value: '" + defaultValue + "'", e);
+            }
+        }
+
+        return null;
+    }
+
+    private static void addContextKeys(Class<?> type, Set<String> keys) {
+
+        if (type == null || Object.class.equals(type)) {
+            return;
+        }
+
+        keys.add(CONTEXT_KEYS.get(type));
+        addContextKeys(type.getSuperclass(), keys);
+
+        for (Class<?> item : type.getInterfaces()) {
+            addContextKeys(item, keys);
+        }
+    }
+
+    /**
+     * @param type of context
+     * @return key of context slot in routing context storage
+     */
+    public static String getContextKey(Class<?> type) {
+
+        Assert.notNull(type, "Expected type but got null!");
+        return CONTEXT_KEYS.get(type);
+    }
+
+    /**
+     * @param object pushed context
+     * @return keys of all context slots object is pushed into (own class, super classes and interfaces)
+     */
+    public static String[] getContextKeys(Object object) {
+
+        Assert.notNull(object, "Expected object but got null!");
+        return CONTEXT_SLOTS.get(object.getClass());
+    }
+
+    /**
+     * @param object pushed context
+     * @return key of context slot of object class
+     */
+    public static String getContextKey(Object object) {
+
+        Assert.notNull(object, "Expected object but got null!");
+        return getContextKey(object.getClass());
+    }
+}
@@ -0,0 +1,92 @@
+package com.zandero.rest.data;
+
+import com.zandero.utils.Assert;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import rx.Observable;
+import rx.Single;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Support for asynchronous REST method results:
+ * vert.x Future, CompletionStage, RxJava Single and Observable (all emitted items are collected into a List)
+ */
+public final class AsyncResults {
+
+	private AsyncResults() {
+		// hide constructor
+	}
+
+	/**
+	 * @param type method return type
+	 * @return true if method result is provided asynchronously
+	 */
+	public static boolean isAsync(Class<?> type) {
+
+		return type != null &&
+		       (Future.class.isAssignableFrom(type) ||
+		        CompletionStage.class.isAssignableFrom(type) ||
+		        Single.class.isAssignableFrom(type) ||
+		        Observable.class.isAssignableFrom(type));
+	}
+
+	/**
+	 * Subscribes to asynchronous result
+	 *
+	 * @param result  as returned by method (Future, CompletionStage, Single or Observable)
+	 * @param handler to be called once with completed value or failure
+	 */
+	@SuppressWarnings("unchecked")
+	public static void handle(Object result, Handler<AsyncResult<Object>> handler) {
+
+		Assert.notNull(handler, "Missing result handler!");
+
+		if (result == null) {
+			handler.handle(Future.succeededFuture());
+			return;
+		}
+
+		if (result instanceof Future) {
+			((Future<Object>) result).setHandler(handler);
+			return;
+		}
+
+		if (result instanceof CompletionStage) {
+			((CompletionStage<Object>) result).whenComplete((value, failure) -> {
+				if (failure != null) {
+					handler.handle(Future.failedFuture(unwrap(failure)));
+				} else {
+					handler.handle(Future.succeededFuture(value));
+				}
+			});
+			return;
+		}
+
+		if (result instanceof Single) {
+			((Single<Object>) result).subscribe(value -> handler.handle(Future.succeededFuture(value)),
+			                                    failure -> handler.handle(Future.failedFuture(failure)));
+			return;
+		}
+
+		if (result instanceof Observable) {
+			((Observable<Object>) result).toList()
+			                             .subscribe(value -> handler.handle(Future.succeededFuture(value)),
+			                                        failure -> handler.handle(Future.failedFuture(failure)));
+			return;
+		}
+
+		throw new IllegalArgumentException("Unsupported asynchronous result: " + result.getClass().getName());
+	}
+
+	private static Throwable unwrap(Throwable failure) {
+
+		if (failure instanceof CompletionException && failure.getCause() != null) {
+			return failure.getCause();
+		}
+
+		return failure;
+	}
+}
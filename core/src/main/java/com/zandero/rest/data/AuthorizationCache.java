@@ -0,0 +1,171 @@
+package com.zandero.rest.data;
+
+import com.zandero.utils.Assert;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.auth.User;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches role authorization decisions per user and role for a limited time,
+ * so repeated calls of the same user (session) skip the auth provider round trip
+ *
+ * Disabled by default (time to live of 0)
+ * Decisions are held per user principal, for at most {@link #MAX_USERS} users at once
+ */
+public class AuthorizationCache {
+
+	/**
+	 * max number of cached users, once reached expired decisions are dropped or new users are not cached
+	 */
+	static final int MAX_USERS = 10_000;
+
+	private final Map<JsonObject, Map<String, Decision>> decisions = new ConcurrentHashMap<>();
+
+	private volatile long timeToLive = 0; // in nano seconds
+
+	private static final class Decision {
+
+		private final boolean granted;
+
+		private final long expires;
+
+		private Decision(boolean granted, long expires) {
+
+			this.granted = granted;
+			this.expires = expires;
+		}
+
+		private boolean isExpired(long now) {
+
+			return now - expires >= 0;
+		}
+	}
+
+	/**
+	 * @param time time to live of single decision, 0 to disable caching
+	 * @param unit time unit
+	 */
+	public void setTimeToLive(long time, TimeUnit unit) {
+
+		Assert.isTrue(time >= 0, "Expected time to live >= 0!");
+		Assert.notNull(unit, "Missing time unit!");
+
+		timeToLive = unit.toNanos(time);
+		if (timeToLive == 0) {
+			clear();
+		}
+	}
+
+	public boolean isEnabled() {
+
+		return timeToLive > 0;
+	}
+
+	/**
+	 * @param user to get decision for
+	 * @param role to be checked
+	 * @return cached decision or null if not cached or expired
+	 */
+	public Boolean get(User user, String role) {
+
+		JsonObject principal = getPrincipal(user);
+		if (principal == null) {
+			return null;
+		}
+
+		Map<String, Decision> roles = decisions.get(principal);
+		if (roles == null) {
+			return null;
+		}
+
+		Decision decision = roles.get(role);
+		if (decision == null) {
+			return null;
+		}
+
+		if (decision.isExpired(System.nanoTime())) {
+			roles.remove(role, decision);
+			return null;
+		}
+
+		return decision.granted;
+	}
+
+	/**
+	 * Stores decision for given user and role (if caching is enabled)
+	 *
+	 * @param user    authorized user
+	 * @param role    checked role
+	 * @param granted true if role was granted, false otherwise
+	 */
+	public void put(User user, String role, boolean granted) {
+
+		JsonObject principal = getPrincipal(user);
+		if (principal == null) {
+			return;
+		}
+
+		long now = System.nanoTime();
+		Map<String, Decision> roles = decisions.get(principal);
+		if (roles == null) {
+
+			if (decisions.size() >= MAX_USERS) {
+				evict(now);
+				if (decisions.size() >= MAX_USERS) {
+					return; // cache full ... don't cache
+				}
+			}
+
+			// principal is copied so later changes of user don't affect the key
+			roles = decisions.computeIfAbsent(principal.copy(), key -> new ConcurrentHashMap<>());
+		}
+
+		roles.put(role, new Decision(granted, now + timeToLive));
+	}
+
+	/**
+	 * Removes all cached decisions of given user (for instance on logout)
+	 *
+	 * @param user to forget
+	 */
+	public void remove(User user) {
+
+		JsonObject principal = user != null ? user.principal() : null;
+		if (principal != null) {
+			decisions.remove(principal);
+		}
+	}
+
+	public void clear() {
+
+		decisions.clear();
+	}
+
+	int size() {
+
+		return decisions.size();
+	}
+
+	private JsonObject getPrincipal(User user) {
+
+		if (!isEnabled() || user == null) {
+			return null;
+		}
+
+		return user.principal();
+	}
+
+	/**
+	 * Drops expired decisions and users without decisions
+	 */
+	private void evict(long now) {
+
+		decisions.values().removeIf(roles -> {
+			roles.values().removeIf(decision -> decision.isExpired(now));
+			return roles.isEmpty();
+		});
+	}
+}
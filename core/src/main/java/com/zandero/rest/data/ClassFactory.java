@@ -12,48 +12,143 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Simple class instance cache
+ *
+ * Safe to be used from event loops and worker threads concurrently:
+ * registrations are copy-on-write (lookups read an immutable snapshot without locking),
+ * instances are cached in a concurrent map
  */
 public abstract class ClassFactory<T> {
 
     private final static Logger log = LoggerFactory.getLogger(ClassFactory.class);
 
-    private Map<String, T> cache = new HashMap<>();
+    private final ConcurrentHashMap<Class<?>, T> cache = new ConcurrentHashMap<>();
 
-    protected Map<Class, Class<? extends T>> classTypes = new LinkedHashMap<>();
+    private volatile Map<Class<?>, Class<? extends T>> classTypes = Collections.emptyMap();
 
-    protected Map<String, Class<? extends T>> mediaTypes = new LinkedHashMap<>();
+    /**
+     * resolved class type associations by concrete type (replaced on any class type registration)
+     */
+    private volatile TypeLookup<T> typeLookup = new TypeLookup<>(classTypes);
+
+    private volatile Map<String, Class<? extends T>> mediaTypes = Collections.emptyMap();
+
+    /**
+     * registrations collected while (re)initializing, published at once when done
+     */
+    private Map<Class<?>, Class<? extends T>> pendingClassTypes;
+
+    private Map<String, Class<? extends T>> pendingMediaTypes;
+
+    /**
+     * once frozen no additional registrations are possible
+     */
+    private volatile boolean frozen = false;
 
     public ClassFactory() {
 
-        init();
+        reset();
     }
 
+    /**
+     * Registers default types via {@link #classType(Class, Class)} and {@link #mediaType(String, Class)}
+     */
     abstract protected void init();
 
     public void clear() {
 
+        Assert.isFalse(frozen, "Can't clear frozen " + getClass().getSimpleName() + "!");
+
         // clears any additionally registered writers and initializes defaults
-        classTypes.clear();
-        mediaTypes.clear();
-        cache.clear();
+        reset();
+    }
 
-        init();
+    /**
+     * Prevents any further registration (registrations remain unchanged from now on)
+     */
+    public void freeze() {
+
+        frozen = true;
     }
 
-    private void cache(T instance) {
+    public boolean isFrozen() {
 
-        cache.put(instance.getClass().getName(), instance);
+        return frozen;
     }
 
-    private T getCached(Class<? extends T> reader) {
+    private synchronized void reset() {
+
+        pendingClassTypes = new LinkedHashMap<>();
+        pendingMediaTypes = new LinkedHashMap<>();
 
-        return cache.get(reader.getName());
+        try {
+            init();
+
+            classTypes = Collections.unmodifiableMap(pendingClassTypes);
+            typeLookup = new TypeLookup<>(classTypes);
+            mediaTypes = Collections.unmodifiableMap(pendingMediaTypes);
+            cache.clear();
+        }
+        finally {
+            pendingClassTypes = null;
+            pendingMediaTypes = null;
+        }
+    }
+
+    /**
+     * Associates class with given type (copy-on-write), first matching association is used when searching
+     *
+     * @param aClass type to associate with
+     * @param clazz  class associated
+     */
+    protected synchronized void classType(Class<?> aClass, Class<? extends T> clazz) {
+
+        if (pendingClassTypes != null) {
+            pendingClassTypes.put(aClass, clazz);
+            return;
+        }
+
+        Assert.isFalse(frozen, "Can't register into frozen " + getClass().getSimpleName() + "!");
+
+        Map<Class<?>, Class<? extends T>> copy = new LinkedHashMap<>(classTypes);
+        copy.put(aClass, clazz);
+        classTypes = Collections.unmodifiableMap(copy);
+        typeLookup = new TypeLookup<>(classTypes);
+    }
+
+    /**
+     * Associates class with given media type (copy-on-write)
+     *
+     * @param mediaType media type to associate with
+     * @param clazz     class associated
+     */
+    protected void mediaType(String mediaType, Class<? extends T> clazz) {
+
+        Assert.notNull(mediaType, "Missing media type!");
+
+        MediaType type = MediaTypeHelper.valueOf(mediaType);
+        Assert.notNull(type, "Unknown media type given: " + mediaType);
+
+        mediaType(type, clazz);
+    }
+
+    private synchronized void mediaType(MediaType mediaType, Class<? extends T> clazz) {
+
+        String key = MediaTypeHelper.getKey(mediaType);
+        if (pendingMediaTypes != null) {
+            pendingMediaTypes.put(key, clazz);
+            return;
+        }
+
+        Assert.isFalse(frozen, "Can't register into frozen " + getClass().getSimpleName() + "!");
+
+        Map<String, Class<? extends T>> copy = new LinkedHashMap<>(mediaTypes);
+        copy.put(key, clazz);
+        mediaTypes = Collections.unmodifiableMap(copy);
     }
 
     protected T getClassInstance(Class<? extends T> clazz) throws ClassFactoryException {
@@ -62,16 +157,17 @@ public abstract class ClassFactory<T> {
             return null;
         }
 
-        try {
-
-            T instance = getCached(clazz);
-            if (instance == null) {
+        T instance = cache.get(clazz);
+        if (instance != null) {
+            return instance;
+        }
 
-                instance = clazz.newInstance();
-                cache(instance);
-            }
+        try {
+            instance = clazz.newInstance();
 
-            return instance;
+            // some other thread might have been faster ... use the same instance
+            T existing = cache.putIfAbsent(clazz, instance);
+            return existing != null ? existing : instance;
         }
         catch (InstantiationException | IllegalAccessException e) {
             log.error("Failed to instantiate class '" + clazz.getName() + "' " + e.getMessage(), e);
@@ -99,11 +195,7 @@ public abstract class ClassFactory<T> {
         Assert.notNull(mediaType, "Missing media type!");
         Assert.notNull(clazz, "Missing media type class");
 
-        MediaType type = MediaType.valueOf(mediaType);
-        Assert.notNull(type, "Unknown media type given: " + mediaType);
-
-        String key = MediaTypeHelper.getKey(type);
-        mediaTypes.put(key, clazz);
+        mediaType(mediaType, clazz);
     }
 
     protected void register(MediaType mediaType, Class<? extends T> clazz) {
@@ -111,8 +203,7 @@ public abstract class ClassFactory<T> {
         Assert.notNull(mediaType, "Missing media type!");
         Assert.notNull(clazz, "Missing media type class");
 
-        String key = MediaTypeHelper.getKey(mediaType);
-        mediaTypes.put(key, clazz);
+        mediaType(mediaType, clazz);
     }
 
     protected void register(Class<?> aClass, Class<? extends T> clazz) {
@@ -123,7 +214,7 @@ public abstract class ClassFactory<T> {
         Type expected = getGenericType(clazz);
         checkIfCompatibleTypes(aClass, expected, "Incompatible types: '" + aClass + "' and: '" + expected + "' using: '" + clazz + "'");
 
-        classTypes.put(aClass, clazz);
+        classType(aClass, clazz);
     }
 
     protected T get(Class<?> type, Class<? extends T> byDefinition, MediaType[] mediaTypes) throws ClassFactoryException {
@@ -183,7 +274,7 @@ public abstract class ClassFactory<T> {
 
     public T get(String mediaType) throws ClassFactoryException {
 
-        Class<? extends T> clazz = get(MediaType.valueOf(mediaType));
+        Class<? extends T> clazz = get(MediaTypeHelper.valueOf(mediaType));
         return getClassInstance(clazz);
     }
 
@@ -192,14 +283,112 @@ public abstract class ClassFactory<T> {
         if (type == null) {
             return null;
         }
-        // try to find appropriate class if mapped (by type)
-        for (Class key : classTypes.keySet()) {
-            if (key.isInstance(type) || key.isAssignableFrom(type)) {
-                return classTypes.get(key);
+        // resolved once per type (and registration)
+        return typeLookup.get(type).orElse(null);
+    }
+
+    /**
+     * Finds most specific association for given type (exact match, or closest super class / interface)
+     * associations at the same distance are considered in order of registration
+     *
+     * @param types associations
+     * @param type  to find association for
+     * @param <T>   associated class type
+     * @return associated class or null if none found
+     */
+    private static <T> Class<? extends T> find(Map<Class<?>, Class<? extends T>> types, Class<?> type) {
+
+        Class<? extends T> found = types.get(type);
+        if (found != null) {
+            return found;
+        }
+
+        int closest = Integer.MAX_VALUE;
+        for (Map.Entry<Class<?>, Class<? extends T>> entry : types.entrySet()) {
+
+            Class<?> key = entry.getKey();
+
+            int distance = getDistance(type, key);
+            if (distance < 0 && key.isInstance(type)) {
+                distance = Integer.MAX_VALUE - 1; // related to class object only ... least specific
+            }
+
+            if (distance >= 0 && distance < closest) {
+                closest = distance;
+                found = entry.getValue();
             }
         }
 
-        return null;
+        return found;
+    }
+
+    /**
+     * @param type      to start from
+     * @param superType super class or interface of type
+     * @return number of inheritance steps from type to super type (0 if equal), or -1 if types are not related
+     */
+    public static int getDistance(Class<?> type, Class<?> superType) {
+
+        Assert.notNull(type, "Missing type!");
+        Assert.notNull(superType, "Missing super type!");
+
+        if (type.equals(superType)) {
+            return 0;
+        }
+
+        if (!superType.isAssignableFrom(type)) {
+            return -1;
+        }
+
+        // breadth first ... over super classes and interfaces
+        int distance = 0;
+        List<Class<?>> level = Collections.singletonList(type);
+        while (!level.isEmpty()) {
+
+            distance++;
+            List<Class<?>> next = new ArrayList<>();
+
+            for (Class<?> current : level) {
+
+                Class<?> parent = current.getSuperclass();
+                if (parent != null) {
+                    if (parent.equals(superType)) {
+                        return distance;
+                    }
+                    next.add(parent);
+                }
+
+                for (Class<?> iface : current.getInterfaces()) {
+                    if (iface.equals(superType)) {
+                        return distance;
+                    }
+                    next.add(iface);
+                }
+            }
+
+            level = next;
+        }
+
+        return distance; // Object for interfaces
+    }
+
+    /**
+     * Caches most specific class type association per concrete type
+     */
+    private static final class TypeLookup<T> extends ClassValue<Optional<Class<? extends T>>> {
+
+        private final Map<Class<?>, Class<? extends T>> types;
+
+        private TypeLookup(Map<Class<?>, Class<? extends T>> types) {
+
+            this.types = types;
+        }
+
+        @Override
+        protected Optional<Class<? extends T>> computeValue(Class<?> type) {
+
+            return Optional.ofNullable(find(types, type));
+        }
     }
 
     public static Type getGenericType(Class clazz) {
@@ -225,7 +414,7 @@ public abstract class ClassFactory<T> {
     }
 
     @SuppressWarnings("unchecked")
-    protected static boolean checkIfCompatibleTypes(Class<?> expected, Type actual) {
+    public static boolean checkIfCompatibleTypes(Class<?> expected, Type actual) {
 
         if (actual == null) {
             return true;
@@ -0,0 +1,19 @@
+package com.zandero.rest.data;
+
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Provides {@code @Context} argument of given type for current request
+ * use RestRouter.getContextProviders().register(...) to register a global provider
+ *
+ * @param <T> type of provided context
+ */
+@FunctionalInterface
+public interface ContextProvider<T> {
+
+	/**
+	 * @param context routing context of current request
+	 * @return context value or null if not available (default value is used if given)
+	 */
+	T provide(RoutingContext context);
+}
@@ -0,0 +1,97 @@
+package com.zandero.rest.data;
+
+import com.zandero.rest.exception.ClassFactoryException;
+import com.zandero.utils.Assert;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Provides registered {@code @Context} providers by context type
+ * providers are resolved once per method argument when route is registered (sub types at equal distance in order of registration)
+ */
+public class ContextProviderFactory {
+
+	private final Map<Class<?>, ContextProvider<?>> providers = new LinkedHashMap<>();
+
+	private volatile boolean frozen = false;
+
+	/**
+	 * Registers context provider for given type (replaces any provider registered for the same type)
+	 *
+	 * @param type     of context
+	 * @param provider provider of context
+	 * @param <T>      type
+	 */
+	public synchronized <T> void register(Class<T> type, ContextProvider<? extends T> provider) {
+
+		Assert.notNull(type, "Missing context type!");
+		Assert.notNull(provider, "Missing context provider!");
+		Assert.isFalse(frozen, "Can't register into frozen " + getClass().getSimpleName() + "!");
+
+		providers.put(type, provider);
+	}
+
+	/**
+	 * Registers context provider class for given type
+	 *
+	 * @param type     of context
+	 * @param provider provider class (must have an empty constructor)
+	 * @param <T>      type
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> void register(Class<T> type, Class<? extends ContextProvider<? extends T>> provider) {
+
+		Assert.notNull(provider, "Missing context provider!");
+
+		try {
+			register(type, (ContextProvider<? extends T>) ClassFactory.newInstanceOf(provider));
+		}
+		catch (ClassFactoryException e) {
+			throw new IllegalArgumentException(e.getMessage());
+		}
+	}
+
+	/**
+	 * Removes all registered providers
+	 */
+	public synchronized void clear() {
+
+		Assert.isFalse(frozen, "Can't clear frozen " + getClass().getSimpleName() + "!");
+		providers.clear();
+	}
+
+	/**
+	 * Prevents any further registration
+	 */
+	public void freeze() {
+
+		frozen = true;
+	}
+
+	/**
+	 * @param type of context argument
+	 * @return provider registered for given type, or most specific provider of a sub type, or null if none registered
+	 */
+	public synchronized ContextProvider<?> get(Class<?> type) {
+
+		Assert.notNull(type, "Missing context type!");
+
+		ContextProvider<?> provider = providers.get(type);
+		if (provider != null) {
+			return provider;
+		}
+
+		int distance = Integer.MAX_VALUE;
+		for (Map.Entry<Class<?>, ContextProvider<?>> entry : providers.entrySet()) {
+
+			int current = ClassFactory.getDistance(entry.getKey(), type);
+			if (current >= 0 && current < distance) {
+				distance = current;
+				provider = entry.getValue();
+			}
+		}
+
+		return provider;
+	}
+}
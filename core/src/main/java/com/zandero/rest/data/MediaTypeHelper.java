@@ -0,0 +1,152 @@
+package com.zandero.rest.data;
+
+import javax.ws.rs.core.MediaType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical (interned) media types
+ * each media type is parsed once, the instance holds a precomputed key (without charset) and header value
+ */
+public final class MediaTypeHelper {
+
+	/**
+	 * Max number of interned media type values and keys
+	 */
+	static final int CACHE_SIZE = 256;
+
+	/**
+	 * raw media type value -> canonical media type
+	 */
+	private static final Map<String, InternedMediaType> types = new ConcurrentHashMap<>();
+
+	/**
+	 * type/subtype key -> canonical key instance
+	 */
+	private static final Map<String, String> keys = new ConcurrentHashMap<>();
+
+	private MediaTypeHelper() {
+		// hide constructor
+	}
+
+	/**
+	 * Immutable media type with precomputed key and header value
+	 */
+	private static final class InternedMediaType extends MediaType {
+
+		private final String key;
+
+		private final String value;
+
+		InternedMediaType(MediaType type) {
+
+			super(type.getType(), type.getSubtype(), type.getParameters());
+
+			key = intern(type.getType() + "/" + type.getSubtype());
+			value = super.toString();
+		}
+
+		@Override
+		public String toString() {
+
+			return value;
+		}
+	}
+
+	/**
+	 * Parses media type or returns already parsed canonical instance
+	 *
+	 * @param mediaType to parse
+	 * @return canonical media type or null if null given
+	 * @throws IllegalArgumentException in case media type can't be parsed
+	 */
+	public static MediaType valueOf(String mediaType) {
+
+		if (mediaType == null) {
+			return null;
+		}
+
+		InternedMediaType type = types.get(mediaType);
+		if (type != null) {
+			return type;
+		}
+
+		type = new InternedMediaType(MediaType.valueOf(mediaType));
+		if (types.size() < CACHE_SIZE) {
+			InternedMediaType existing = types.putIfAbsent(mediaType, type);
+			if (existing != null) {
+				return existing;
+			}
+		}
+
+		return type;
+	}
+
+	/**
+	 * Returns canonical instance of given media type
+	 *
+	 * @param mediaType to intern
+	 * @return canonical media type or null if null given
+	 */
+	public static MediaType intern(MediaType mediaType) {
+
+		if (mediaType == null || mediaType instanceof InternedMediaType) {
+			return mediaType;
+		}
+
+		return valueOf(mediaType.toString());
+	}
+
+	/**
+	 * @param mediaType media type
+	 * @return canonical type/subtype key without any parameters (charset) or wildcard if null given
+	 */
+	public static String getKey(MediaType mediaType) {
+
+		if (mediaType == null) {
+			return MediaType.WILDCARD;
+		}
+
+		if (mediaType instanceof InternedMediaType) {
+			return ((InternedMediaType) mediaType).key;
+		}
+
+		return intern(mediaType.getType() + "/" + mediaType.getSubtype()); // key does not contain any charset
+	}
+
+	/**
+	 * @param mediaType media type
+	 * @return canonical type/subtype key of interned media type, null if media type is not interned
+	 */
+	static String getInternedKey(MediaType mediaType) {
+
+		return mediaType instanceof InternedMediaType ? ((InternedMediaType) mediaType).key : null;
+	}
+
+	/**
+	 * Looks up canonical key without interning given key (for instance keys taken from request headers)
+	 *
+	 * @param key type/subtype key
+	 * @return canonical key instance if already interned, given key otherwise
+	 */
+	static String findKey(String key) {
+
+		String existing = keys.get(key);
+		return existing != null ? existing : key;
+	}
+
+	private static String intern(String key) {
+
+		String existing = keys.get(key);
+		if (existing != null) {
+			return existing;
+		}
+
+		if (keys.size() >= CACHE_SIZE) {
+			return key;
+		}
+
+		existing = keys.putIfAbsent(key, key);
+		return existing != null ? existing : key;
+	}
+}
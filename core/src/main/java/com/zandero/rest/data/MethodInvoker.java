@@ -0,0 +1,16 @@
+package com.zandero.rest.data;
+
+/**
+ * Invokes REST method bound to REST API instance with given arguments
+ * (prepared once when route is registered)
+ */
+@FunctionalInterface
+public interface MethodInvoker {
+
+	/**
+	 * @param args method arguments or null if method has no arguments
+	 * @return method result or null in case of void method
+	 * @throws Exception as thrown by invoked method
+	 */
+	Object invoke(Object[] args) throws Exception;
+}
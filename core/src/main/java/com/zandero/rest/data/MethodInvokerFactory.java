@@ -0,0 +1,94 @@
+package com.zandero.rest.data;
+
+import com.zandero.utils.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Prepares method invokers utilizing method handles (direct calls)
+ * falls back to reflection in case method can not be accessed via method handle
+ */
+public final class MethodInvokerFactory {
+
+	private final static Logger log = LoggerFactory.getLogger(MethodInvokerFactory.class);
+
+	/**
+	 * all handles are adapted to take an array of arguments and return an object
+	 */
+	private static final MethodType INVOKE_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+	private MethodInvokerFactory() {
+		// hide constructor
+	}
+
+	/**
+	 * Prepares invoker for given method bound to given instance
+	 *
+	 * @param api    REST API instance to invoke method on (can be null for static methods)
+	 * @param method to be invoked
+	 * @return method invoker
+	 */
+	public static MethodInvoker get(Object api, Method method) {
+
+		Assert.notNull(method, "Missing method to invoke!");
+
+		boolean isStatic = Modifier.isStatic(method.getModifiers());
+		Assert.isTrue(isStatic || api != null, "Missing REST API instance to invoke: " + method);
+
+		MethodHandle handle = getHandle(method);
+		if (handle == null) {
+			log.warn("Can't access: " + method + " with method handle, falling back to reflection!");
+			return args -> method.invoke(api, args);
+		}
+
+		if (!isStatic) {
+			handle = handle.bindTo(api);
+		}
+
+		// spread arguments array into method arguments ... unboxing primitives if needed
+		final MethodHandle invoker = handle.asSpreader(Object[].class, method.getParameterCount())
+		                                   .asType(INVOKE_TYPE);
+
+		return args -> invoke(invoker, args);
+	}
+
+	private static MethodHandle getHandle(Method method) {
+
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+		try {
+			return lookup.unreflect(method);
+		}
+		catch (IllegalAccessException e) {
+			// public method of a non public class ... try to suppress access checks
+			try {
+				method.setAccessible(true);
+				return lookup.unreflect(method);
+			}
+			catch (IllegalAccessException | RuntimeException ex) {
+				return null;
+			}
+		}
+	}
+
+	private static Object invoke(MethodHandle invoker, Object[] args) throws Exception {
+
+		try {
+			return (Object) invoker.invokeExact(args);
+		}
+		catch (Exception e) {
+			throw e; // as thrown by method ... no wrapping
+		}
+		catch (Throwable e) {
+			// errors are wrapped the same way as if invoked via reflection
+			throw new InvocationTargetException(e);
+		}
+	}
+}
@@ -4,6 +4,9 @@ import com.zandero.utils.Assert;
 import com.zandero.utils.StringUtils;
 import com.zandero.utils.extra.ValidatingUtils;
 
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+
 /**
  *
  */
@@ -34,6 +37,16 @@ public class MethodParameter {
 	 */
 	private Class<?> dataType;
 
+	/**
+	 * type of collection elements in case data type is a collection (List, Set ...)
+	 */
+	private Class<?> elementType;
+
+	/**
+	 * method argument annotations
+	 */
+	private Annotation[] annotations = new Annotation[0];
+
 	/**
 	 * default value of parameter in case not given on call
 	 */
@@ -44,6 +57,11 @@ public class MethodParameter {
 	 */
 	private String regularExpression;
 
+	/**
+	 * name of regular expression group capturing path parameter value (if path parameter)
+	 */
+	private String pathGroup;
+
 
 	public MethodParameter(ParameterType parameterType, String paramName) {
 
@@ -107,6 +125,37 @@ public class MethodParameter {
 		return dataType;
 	}
 
+	/**
+	 * @return true if argument is a collection of (multi value) parameters
+	 */
+	public boolean isCollection() {
+
+		return dataType != null && Collection.class.isAssignableFrom(dataType);
+	}
+
+	/**
+	 * @return type of collection elements, String if not given
+	 */
+	public Class<?> getElementType() {
+
+		return elementType == null ? String.class : elementType;
+	}
+
+	public void setElementType(Class<?> type) {
+
+		elementType = type;
+	}
+
+	public Annotation[] getAnnotations() {
+
+		return annotations;
+	}
+
+	public void setAnnotations(Annotation[] value) {
+
+		annotations = value == null ? new Annotation[0] : value;
+	}
+
 	public String getDefaultValue() {
 
 		return defaultValue;
@@ -148,6 +197,19 @@ public class MethodParameter {
 		return pathIndex;
 	}
 
+	public void setPathGroup(String value) {
+
+		pathGroup = value;
+	}
+
+	/**
+	 * @return name of group capturing value in path regular expression or null if not a path parameter
+	 */
+	public String getPathGroup() {
+
+		return pathGroup;
+	}
+
 	@Override
 	public String toString() {
 
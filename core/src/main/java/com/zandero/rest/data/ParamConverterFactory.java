@@ -0,0 +1,95 @@
+package com.zandero.rest.data;
+
+import com.zandero.utils.Assert;
+
+import javax.ws.rs.ext.ParamConverter;
+import javax.ws.rs.ext.ParamConverterProvider;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Provides parameter converters (String to argument type)
+ * registered providers are considered first (in order of registration), built in converters last
+ *
+ * Converters are resolved once per method parameter when route is registered
+ */
+public class ParamConverterFactory {
+
+	private final List<ParamConverterProvider> providers = new CopyOnWriteArrayList<>();
+
+	private volatile boolean frozen = false;
+
+	/**
+	 * Registers JAX-RS parameter converter provider
+	 *
+	 * @param provider to be registered
+	 */
+	public void register(ParamConverterProvider provider) {
+
+		Assert.notNull(provider, "Missing parameter converter provider!");
+		Assert.isFalse(frozen, "Can't register into frozen " + getClass().getSimpleName() + "!");
+		providers.add(provider);
+	}
+
+	/**
+	 * Registers parameter converter for given type
+	 *
+	 * @param type      to be converted to
+	 * @param converter converter
+	 * @param <T>       type
+	 */
+	public <T> void register(Class<T> type, ParamConverter<T> converter) {
+
+		Assert.notNull(type, "Missing type to convert to!");
+		Assert.notNull(converter, "Missing parameter converter!");
+
+		register(new ParamConverterProvider() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <C> ParamConverter<C> getConverter(Class<C> rawType, Type genericType, Annotation[] annotations) {
+
+				return type.equals(rawType) ? (ParamConverter<C>) converter : null;
+			}
+		});
+	}
+
+	/**
+	 * Removes all registered providers (built in converters remain)
+	 */
+	public void clear() {
+
+		Assert.isFalse(frozen, "Can't clear frozen " + getClass().getSimpleName() + "!");
+		providers.clear();
+	}
+
+	/**
+	 * Prevents any further registration
+	 */
+	public void freeze() {
+
+		frozen = true;
+	}
+
+	/**
+	 * @param rawType     to convert to
+	 * @param genericType generic type of argument
+	 * @param annotations argument annotations
+	 * @param <T>         type
+	 * @return converter or null if no converter is available for given type
+	 */
+	public <T> ParamConverter<T> get(Class<T> rawType, Type genericType, Annotation[] annotations) {
+
+		Assert.notNull(rawType, "Missing type to convert to!");
+
+		for (ParamConverterProvider provider : providers) {
+			ParamConverter<T> converter = provider.getConverter(rawType, genericType, annotations);
+			if (converter != null) {
+				return converter;
+			}
+		}
+
+		return ParamConverters.get(rawType);
+	}
+}
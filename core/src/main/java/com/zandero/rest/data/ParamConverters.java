@@ -0,0 +1,213 @@
+package com.zandero.rest.data;
+
+import com.zandero.utils.Assert;
+
+import javax.ws.rs.ext.ParamConverter;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Built in parameter converters
+ *
+ * Primitive types (and wrappers), String, UUID and java.time types are converted directly,
+ * other types are converted as defined by JAX-RS: String constructor, static valueOf(String) or fromString(String) method
+ * (fromString is preferred for enums). As last resort a single primitive type argument constructor is used.
+ */
+public final class ParamConverters {
+
+	private static final Map<Class<?>, Function<String, ?>> BUILT_IN = new HashMap<>();
+
+	static {
+		BUILT_IN.put(String.class, value -> value);
+
+		BUILT_IN.put(boolean.class, Boolean::valueOf);
+		BUILT_IN.put(Boolean.class, Boolean::valueOf);
+		BUILT_IN.put(byte.class, Byte::valueOf);
+		BUILT_IN.put(Byte.class, Byte::valueOf);
+		BUILT_IN.put(char.class, ParamConverters::toCharacter);
+		BUILT_IN.put(Character.class, ParamConverters::toCharacter);
+		BUILT_IN.put(short.class, Short::valueOf);
+		BUILT_IN.put(Short.class, Short::valueOf);
+		BUILT_IN.put(int.class, Integer::valueOf);
+		BUILT_IN.put(Integer.class, Integer::valueOf);
+		BUILT_IN.put(long.class, Long::valueOf);
+		BUILT_IN.put(Long.class, Long::valueOf);
+		BUILT_IN.put(float.class, Float::valueOf);
+		BUILT_IN.put(Float.class, Float::valueOf);
+		BUILT_IN.put(double.class, Double::valueOf);
+		BUILT_IN.put(Double.class, Double::valueOf);
+
+		BUILT_IN.put(UUID.class, UUID::fromString);
+
+		BUILT_IN.put(Instant.class, Instant::parse);
+		BUILT_IN.put(LocalDate.class, LocalDate::parse);
+		BUILT_IN.put(LocalTime.class, LocalTime::parse);
+		BUILT_IN.put(LocalDateTime.class, LocalDateTime::parse);
+		BUILT_IN.put(OffsetDateTime.class, OffsetDateTime::parse);
+		BUILT_IN.put(ZonedDateTime.class, ZonedDateTime::parse);
+		BUILT_IN.put(Duration.class, Duration::parse);
+		BUILT_IN.put(Period.class, Period::parse);
+	}
+
+	private ParamConverters() {
+		// hide constructor
+	}
+
+	/**
+	 * Resolves built in converter for given type
+	 *
+	 * @param type to convert to
+	 * @param <T>  type
+	 * @return converter or null if type can not be converted from String
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> ParamConverter<T> get(Class<T> type) {
+
+		Assert.notNull(type, "Missing type to convert to!");
+
+		Function<String, ?> function = BUILT_IN.get(type);
+		if (function == null && type.isEnum()) {
+			function = getEnumFunction((Class<? extends Enum>) type);
+		}
+
+		if (function == null) {
+			function = getFunction(type);
+		}
+
+		return function == null ? null : new FunctionConverter<>((Function<String, T>) function);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<String, ?> getEnumFunction(Class<? extends Enum> type) {
+
+		MethodHandle fromString = getStaticMethod(type, "fromString");
+		if (fromString != null) {
+			return value -> invoke(fromString, value);
+		}
+
+		return value -> Enum.valueOf(type, value);
+	}
+
+	private static Function<String, ?> getFunction(Class<?> type) {
+
+		if (type.isPrimitive() || type.isInterface() || type.isArray() || Modifier.isAbstract(type.getModifiers())) {
+			return null;
+		}
+
+		MethodHandle handle = getConstructor(type, String.class);
+
+		if (handle == null) {
+			handle = getStaticMethod(type, "valueOf");
+		}
+
+		if (handle == null) {
+			handle = getStaticMethod(type, "fromString");
+		}
+
+		if (handle != null) {
+			final MethodHandle converter = handle;
+			return value -> invoke(converter, value);
+		}
+
+		// single primitive type argument constructor
+		for (Constructor<?> constructor : type.getConstructors()) {
+
+			Class<?>[] parameterTypes = constructor.getParameterTypes();
+			if (parameterTypes.length == 1 && BUILT_IN.containsKey(parameterTypes[0])) {
+
+				Function<String, ?> primitive = BUILT_IN.get(parameterTypes[0]);
+				MethodHandle ctor = getConstructor(type, parameterTypes[0]);
+
+				if (ctor != null) {
+					return value -> invoke(ctor, primitive.apply(value));
+				}
+			}
+		}
+
+		return null;
+	}
+
+	private static MethodHandle getConstructor(Class<?> type, Class<?> argument) {
+
+		try {
+			return MethodHandles.publicLookup()
+			                    .findConstructor(type, MethodType.methodType(void.class, argument))
+			                    .asType(MethodType.methodType(Object.class, Object.class));
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	private static MethodHandle getStaticMethod(Class<?> type, String name) {
+
+		try {
+			Method method = type.getMethod(name, String.class);
+			if (!Modifier.isStatic(method.getModifiers()) || !type.isAssignableFrom(method.getReturnType())) {
+				return null;
+			}
+
+			return MethodHandles.publicLookup()
+			                    .unreflect(method)
+			                    .asType(MethodType.methodType(Object.class, Object.class));
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	private static Object invoke(MethodHandle handle, Object value) {
+
+		try {
+			return (Object) handle.invokeExact(value);
+		}
+		catch (RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw new IllegalArgumentException(e.getMessage(), e);
+		}
+	}
+
+	private static Character toCharacter(String value) {
+
+		Assert.isTrue(value.length() != 0, "Expected Character but got: null");
+		return value.charAt(0);
+	}
+
+	/**
+	 * Converter calling given function
+	 */
+	private static final class FunctionConverter<T> implements ParamConverter<T> {
+
+		private final Function<String, T> function;
+
+		private FunctionConverter(Function<String, T> converter) {
+
+			function = converter;
+		}
+
+		@Override
+		public T fromString(String value) {
+
+			Assert.notNull(value, "Missing value to convert!");
+			return function.apply(value);
+		}
+
+		@Override
+		public String toString(T value) {
+
+			Assert.notNull(value, "Missing value to convert!");
+			return value.toString();
+		}
+	}
+}
@@ -2,9 +2,11 @@ package com.zandero.rest.data;
 
 import com.zandero.utils.StringUtils;
 import com.zandero.utils.extra.ValidatingUtils;
+import io.netty.handler.codec.http.QueryStringDecoder;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 /**
  * Converts {path}/{subPath} into Vert.X path matching format
@@ -12,6 +14,13 @@ import java.util.List;
  */
 public final class PathConverter {
 
+	/**
+	 * Any single path segment (path parameter without regular expression)
+	 */
+	private static final String SEGMENT = "[^/]+";
+
+	private static final String REGEX_CHARS = "\\^$.|?*+()[]{}";
+
 	private PathConverter() {
 		// hide constructor
 	}
@@ -82,6 +91,72 @@ public final class PathConverter {
 		return out.toString();
 	}
 
+	/**
+	 * Converts path with regular expressions into a single regular expression,
+	 * each path parameter is captured by a named group (see MethodParameter.getPathGroup())
+	 *
+	 * @param path to be converted
+	 * @return compiled path expression
+	 */
+	static Pattern compile(String path) {
+
+		StringBuilder out = new StringBuilder();
+		String[] items = path.split("/");
+
+		int paramIndex = 0;
+		for (int index = 0; index < items.length; index++) {
+
+			MethodParameter param = getParamFromPath(items[index], paramIndex, index);
+			if (param != null) {
+				String regEx = param.isRegEx() ? param.getRegEx() : SEGMENT;
+				out.append("(?<").append(param.getPathGroup()).append(">").append(regEx).append(")");
+				paramIndex++;
+			}
+			else if (items[index].length() > 0) {
+				out.append(quote(items[index]));
+			}
+
+			if (index + 1 < items.length) {
+				out.append("/");
+			}
+		}
+
+		if (path.endsWith("/")) {
+			out.append("/");
+		}
+
+		return Pattern.compile(out.toString());
+	}
+
+	/**
+	 * Quotes static path segment only if it contains any regular expression characters
+	 */
+	private static String quote(String segment) {
+
+		for (int index = 0; index < segment.length(); index++) {
+			if (REGEX_CHARS.indexOf(segment.charAt(index)) >= 0) {
+				return Pattern.quote(segment);
+			}
+		}
+
+		return segment;
+	}
+
+	/**
+	 * Decodes path parameter value ('+' is not considered a space in path)
+	 *
+	 * @param value to decode
+	 * @return decoded value
+	 */
+	static String decode(String value) {
+
+		if (value == null || value.indexOf('%') < 0) {
+			return value;
+		}
+
+		return QueryStringDecoder.decodeComponent(value.replace("+", "%2B"));
+	}
+
 	private static MethodParameter getParamFromPath(String path, int paramIndex, int pathIndex) {
 
 		if (StringUtils.isNullOrEmptyTrimmed(path)) {
@@ -98,6 +173,7 @@ public final class PathConverter {
 			path = path.substring(1); // is vert.x path
 			MethodParameter parameter = new MethodParameter(ParameterType.path, path, paramIndex);
 			parameter.setPathIndex(pathIndex);
+			parameter.setPathGroup(getGroup(paramIndex));
 			return parameter;
 		}
 
@@ -107,6 +183,7 @@ public final class PathConverter {
 			String name = "param" + paramIndex; // Vert.X name ... no other option here
 			MethodParameter parameter = new MethodParameter(ParameterType.path, name, paramIndex);
 			parameter.setPathIndex(pathIndex);
+			parameter.setPathGroup(getGroup(paramIndex));
 			parameter.setRegEx(path);
 			return parameter;
 		}
@@ -124,6 +201,7 @@ public final class PathConverter {
 		if (index <= 0) {
 			MethodParameter parameter = new MethodParameter(ParameterType.path, path, paramIndex);
 			parameter.setPathIndex(pathIndex);
+			parameter.setPathGroup(getGroup(paramIndex));
 			return parameter;
 		}
 
@@ -133,6 +211,7 @@ public final class PathConverter {
 
 		MethodParameter parameter = new MethodParameter(ParameterType.path, name, paramIndex);
 		parameter.setPathIndex(pathIndex);
+		parameter.setPathGroup(getGroup(paramIndex));
 		parameter.setRegEx(regEx);
 		return parameter;
 	}
@@ -161,6 +240,14 @@ public final class PathConverter {
 		return path;
 	}
 
+	/**
+	 * group names are generated, as parameter names might not be valid group names
+	 */
+	private static String getGroup(int paramIndex) {
+
+		return "p" + paramIndex;
+	}
+
 	private static boolean isRestEasyPath(String path) {
 
 		path = StringUtils.trimToNull(path);
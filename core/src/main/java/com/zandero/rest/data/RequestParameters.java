@@ -0,0 +1,145 @@
+package com.zandero.rest.data;
+
+import com.zandero.utils.Assert;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.handler.codec.http.cookie.Cookie;
+import io.netty.handler.codec.http.cookie.ServerCookieDecoder;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Request scoped parameter source, used while providing arguments for a single request
+ * query string is parsed and decoded once (on first query parameter lookup) and shared among all query parameters
+ * the same goes for the Cookie header (no CookieHandler is needed) and regular expression paths (matched once)
+ */
+public final class RequestParameters {
+
+	private final HttpServerRequest request;
+
+	/**
+	 * decoded query parameters (lazy)
+	 */
+	private Map<String, List<String>> query;
+
+	/**
+	 * decoded cookies (lazy)
+	 */
+	private Map<String, String> cookies;
+
+	/**
+	 * match of regular expression path (lazy)
+	 */
+	private Matcher path;
+
+	private boolean pathMatched;
+
+	public RequestParameters(HttpServerRequest request) {
+
+		Assert.notNull(request, "Missing request!");
+		this.request = request;
+	}
+
+	/**
+	 * @param name of query parameter
+	 * @return first given value or null if not present
+	 */
+	public String getQuery(String name) {
+
+		List<String> values = getQueryValues(name);
+		return values.isEmpty() ? null : values.get(0);
+	}
+
+	/**
+	 * @param name of query parameter
+	 * @return all given values in order of appearance or empty list if not present
+	 */
+	public List<String> getQueryValues(String name) {
+
+		List<String> values = getQuery().get(name);
+		return values == null ? Collections.emptyList() : values;
+	}
+
+	/**
+	 * @param name of form parameter
+	 * @return form attribute or request parameter if no such form attribute is given
+	 */
+	public String getForm(String name) {
+
+		String value = request.getFormAttribute(name);
+		if (value == null) { // retry ... with params
+			value = request.getParam(name);
+		}
+
+		return value;
+	}
+
+	/**
+	 * @param name of header
+	 * @return header value or null if not given
+	 */
+	public String getHeader(String name) {
+
+		return request.getHeader(name);
+	}
+
+	/**
+	 * @param name of cookie
+	 * @return cookie value or null if not given
+	 */
+	public String getCookie(String name) {
+
+		return getCookies().get(name);
+	}
+
+	/**
+	 * @param pattern compiled regular expression path
+	 * @param group   name of group capturing path parameter
+	 * @return decoded path parameter value or null if not matched
+	 */
+	public String getPathParam(Pattern pattern, String group) {
+
+		if (path == null) {
+			path = pattern.matcher(request.path());
+			pathMatched = path.matches() || path.find(0); // router might be mounted as sub router ... path is prefixed by mount point
+		}
+
+		return pathMatched ? PathConverter.decode(path.group(group)) : null;
+	}
+
+	private Map<String, String> getCookies() {
+
+		if (cookies == null) {
+
+			String header = request.getHeader(HttpHeaders.COOKIE);
+			if (header == null || header.length() == 0) {
+				cookies = Collections.emptyMap();
+			} else {
+				cookies = new HashMap<>();
+				for (Cookie cookie : ServerCookieDecoder.STRICT.decode(header)) {
+					cookies.putIfAbsent(cookie.name(), cookie.value());
+				}
+			}
+		}
+
+		return cookies;
+	}
+
+	private Map<String, List<String>> getQuery() {
+
+		if (query == null) {
+
+			String queryString = request.query();
+			if (queryString == null || queryString.length() == 0) {
+				query = Collections.emptyMap();
+			} else {
+				query = new QueryStringDecoder(queryString, false).parameters();
+			}
+		}
+
+		return query;
+	}
+}
@@ -0,0 +1,70 @@
+package com.zandero.rest.data;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+
+import javax.ws.rs.core.MediaType;
+import java.util.Map;
+
+/**
+ * Immutable set of response headers prepared once per route (and produced media type)
+ * names and values are kept as optimized char sequences, so they are not encoded again on each response
+ */
+public final class ResponseHeaders {
+
+	private final CharSequence[] names;
+
+	private final CharSequence[] values;
+
+	/**
+	 * @param contentType Content-Type header value or null to use wildcard
+	 * @param headers     additional static headers (name, value)
+	 */
+	public ResponseHeaders(String contentType, Map<String, String> headers) {
+
+		int size = 1 + (headers == null ? 0 : headers.size());
+
+		names = new CharSequence[size];
+		values = new CharSequence[size];
+
+		names[0] = HttpHeaders.CONTENT_TYPE;
+		values[0] = HttpHeaders.createOptimized(contentType == null ? MediaType.WILDCARD : contentType);
+
+		if (headers != null) {
+			int index = 1;
+			for (Map.Entry<String, String> header : headers.entrySet()) {
+
+				names[index] = HttpHeaders.createOptimized(header.getKey());
+				values[index] = HttpHeaders.createOptimized(header.getValue());
+				index++;
+			}
+		}
+	}
+
+	/**
+	 * Adds headers to response, headers already present in response are left as they are
+	 *
+	 * @param response to add headers to
+	 */
+	public void apply(HttpServerResponse response) {
+
+		if (response.ended()) {
+			return;
+		}
+
+		MultiMap current = response.headers();
+		boolean empty = current.isEmpty();
+
+		for (int index = 0; index < names.length; index++) {
+			if (empty || !current.contains(names[index])) {
+				response.putHeader(names[index], values[index]);
+			}
+		}
+	}
+
+	public int size() {
+
+		return names.length;
+	}
+}
@@ -0,0 +1,88 @@
+package com.zandero.rest.data;
+
+import com.zandero.utils.Assert;
+import io.vertx.core.Handler;
+import io.vertx.ext.auth.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Asynchronous role check of given user against route definition
+ *
+ * Roles are checked one by one and the check is short circuited:
+ * by default on the first granted role, with {@code @RequireAllRoles} on the first denied role
+ */
+public final class RoleAuthorization {
+
+	private final static Logger log = LoggerFactory.getLogger(RoleAuthorization.class);
+
+	private RoleAuthorization() {
+		// hide constructor
+	}
+
+	/**
+	 * @param user       current user or null if none present
+	 * @param definition route definition holding security settings
+	 * @param cache      authorization decision cache
+	 * @param handler    called once with true if user is allowed to access the route, false otherwise
+	 */
+	public static void check(User user, RouteDefinition definition, AuthorizationCache cache, Handler<Boolean> handler) {
+
+		Assert.notNull(definition, "Missing route definition!");
+		Assert.notNull(handler, "Missing authorization handler!");
+
+		if (definition.getPermitAll() != null) {
+			// allow all or deny all
+			handler.handle(definition.getPermitAll());
+			return;
+		}
+
+		String[] roles = definition.getRoles();
+		if (user == null || roles == null || roles.length == 0) {
+			handler.handle(false); // no user present ... can't check
+			return;
+		}
+
+		check(user, roles, 0, definition.requiresAllRoles(), cache, handler);
+	}
+
+	private static void check(User user, String[] roles, int index, boolean all, AuthorizationCache cache, Handler<Boolean> handler) {
+
+		if (index >= roles.length) {
+			// all roles granted (all) or none granted (any)
+			handler.handle(all);
+			return;
+		}
+
+		String role = roles[index];
+
+		Boolean cached = cache != null ? cache.get(user, role) : null;
+		if (cached != null) {
+			next(user, roles, index, all, cached, cache, handler);
+			return;
+		}
+
+		user.isAuthorised(role, result -> {
+
+			boolean granted = result.succeeded() && Boolean.TRUE.equals(result.result());
+			if (result.failed()) {
+				log.warn("Failed to check role: " + role, result.cause());
+			} else if (cache != null) {
+				cache.put(user, role, granted);
+			}
+
+			next(user, roles, index, all, granted, cache, handler);
+		});
+	}
+
+	private static void next(User user, String[] roles, int index, boolean all, boolean granted, AuthorizationCache cache, Handler<Boolean> handler) {
+
+		if (granted != all) {
+			// any: first granted role allows access, all: first denied role denies access
+			handler.handle(granted);
+			return;
+		}
+
+		check(user, roles, index + 1, all, cache, handler);
+	}
+}
@@ -0,0 +1,25 @@
+package com.zandero.rest.data;
+
+import java.util.Map;
+
+/**
+ * Route definitions and method invokers of a REST API class generated at compile time
+ * (see rest.vertx.processor), so no reflection is needed when routes are registered
+ *
+ * Implementations are listed in META-INF/services/com.zandero.rest.data.RouteBinder and looked up via ServiceLoader
+ */
+public interface RouteBinder {
+
+	/**
+	 * @return REST API class this binder was generated for
+	 */
+	Class<?> getApiClass();
+
+	/**
+	 * Provides route definitions with method invokers bound to given REST API instance
+	 *
+	 * @param api instance of REST API class
+	 * @return route definitions with associated method invokers
+	 */
+	Map<RouteDefinition, MethodInvoker> bind(Object api);
+}
@@ -0,0 +1,998 @@
+package com.zandero.rest.data;
+
+import com.zandero.rest.AnnotationProcessor;
+import com.zandero.rest.annotation.*;
+import com.zandero.rest.exception.ExceptionHandler;
+import com.zandero.rest.reader.HttpRequestBodyReader;
+import com.zandero.rest.utils.ArrayUtils;
+import com.zandero.rest.writer.HttpResponseWriter;
+import com.zandero.utils.Assert;
+import com.zandero.utils.StringUtils;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.RoutingContext;
+import rx.Observable;
+
+import javax.annotation.security.DenyAll;
+import javax.annotation.security.PermitAll;
+import javax.annotation.security.RolesAllowed;
+import javax.ws.rs.*;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Holds definition of a route as defined with annotations
+ */
+public class RouteDefinition {
+
+	private final String DELIMITER = "/";
+
+	/**
+	 * Original path
+	 */
+	private String path = DELIMITER;
+
+	/**
+	 * Converted path (the route), in case of regular expression paths
+	 * otherwise null
+	 */
+	private String routePath = null;
+
+	/**
+	 * Compiled path in case of regular expression paths (path parameters captured by named groups)
+	 * otherwise null
+	 */
+	private Pattern pathPattern = null;
+
+	private MediaType[] consumes = null;
+
+	private MediaType[] produces = null;
+
+	private io.vertx.core.http.HttpMethod method;
+
+	private Class<? extends HttpResponseWriter> writer;
+
+	private Class<? extends HttpRequestBodyReader> reader;
+
+	private Class<? extends ExceptionHandler>[] exceptionHandlers;
+
+	private Map<String, MethodParameter> params = new HashMap<>();
+
+	private int order;
+
+	private boolean blocking = false; // vert.x blocking
+
+	private boolean ordered = true; // blocking calls executed in order
+
+	private String workerPool = null; // named worker pool (null - vert.x worker pool)
+
+	private int workerPoolSize = 0; // size of named worker pool (0 - vert.x default)
+
+	private int maxQueue = -1; // max number of calls waiting or executing in worker pool (-1 no limit)
+
+	private boolean virtual = false; // invoke on virtual thread if supported
+
+	private long bodyLimit = -1; // max request body size in bytes (-1 no limit)
+
+	/**
+	 * Static response headers (name is case insensitive)
+	 */
+	private Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+	// security
+	private Boolean permitAll = null; // true - permit all, false - deny all, null - check roles
+
+	private String[] roles = null;
+
+	private boolean allRoles = false; // true - all roles required, false - any of given roles
+
+	/**
+	 * Method return type
+	 */
+	private Class<?> returnType;
+
+	/**
+	 * Type of result to be written (same as return type or type of asynchronous result)
+	 */
+	private Class<?> resultType;
+
+	/**
+	 * Number of method arguments
+	 */
+	private int argumentCount;
+
+	/**
+	 * Method parameters by argument index (frozen once arguments are set)
+	 */
+	private MethodParameter[] arguments = new MethodParameter[0];
+
+	public RouteDefinition(Class clazz) {
+
+		Class annotatedClass = AnnotationProcessor.getClassWithAnnotation(clazz, Path.class);
+		if (annotatedClass == null) {
+			annotatedClass = clazz;
+		}
+
+		init(annotatedClass.getAnnotations());
+	}
+
+	/**
+	 * Base route definition from given (class) annotations
+	 *
+	 * @param annotations list of class annotations
+	 */
+	public RouteDefinition(Annotation[] annotations) {
+
+		init(annotations);
+	}
+
+	/**
+	 * Base route definition without annotations, route specifics are set by value
+	 */
+	public RouteDefinition() {
+
+	}
+
+	public RouteDefinition(RouteDefinition base, Annotation[] annotations) {
+
+		this(base);
+
+		// complement / override with additional annotations
+		init(annotations);
+	}
+
+	/**
+	 * Route definition based on given base (class) definition, route specifics are complemented by value
+	 *
+	 * @param base route definition
+	 */
+	public RouteDefinition(RouteDefinition base) {
+
+		// copy base route
+		path(base.getPath());
+
+		consumes = base.getConsumes();
+		produces = base.getProduces();
+		method = base.getMethod();
+
+		reader = base.getReader();
+		writer = base.getWriter();
+
+		// set root privileges
+		permitAll = base.getPermitAll();
+		roles = base.roles;
+		allRoles = base.requiresAllRoles();
+
+		if (roles != null) {
+			permitAll = null;
+		}
+
+		exceptionHandlers = base.getExceptionHandlers();
+		bodyLimit = base.getBodyLimit();
+		headers.putAll(base.getHeaders());
+	}
+
+	/**
+	 * Sets path specifics
+	 *
+	 * @param annotations list of method annotations
+	 */
+	private void init(Annotation[] annotations) {
+
+		for (Annotation annotation : annotations) {
+			//log.info(annotation.toString());
+
+			if (annotation instanceof RouteOrder) {
+				order(((RouteOrder) annotation).value());
+			}
+
+			if (annotation instanceof Path) {
+				path(((Path) annotation).value());
+			}
+
+			if (annotation instanceof Produces) {
+				produces(((Produces) annotation).value());
+			}
+
+			if (annotation instanceof Consumes) {
+				consumes(((Consumes) annotation).value());
+			}
+
+			if (annotation instanceof javax.ws.rs.HttpMethod) {
+				method(((javax.ws.rs.HttpMethod) annotation).value());
+			}
+
+			if (annotation instanceof GET ||
+			    annotation instanceof POST ||
+			    annotation instanceof PUT ||
+			    annotation instanceof DELETE ||
+			    annotation instanceof HEAD ||
+			    annotation instanceof OPTIONS) {
+
+				method(annotation.annotationType().getSimpleName());
+			}
+
+			// response writer ...
+			if (annotation instanceof ResponseWriter) {
+				writer(((ResponseWriter) annotation).value());
+			}
+
+			if (annotation instanceof RequestReader) {
+				reader(((RequestReader) annotation).value());
+			}
+
+			if (annotation instanceof BodyLimit) {
+				bodyLimit(((BodyLimit) annotation).value());
+			}
+
+			if (annotation instanceof Header) {
+				header((Header) annotation);
+			}
+
+			if (annotation instanceof Headers) {
+				for (Header header : ((Headers) annotation).value()) {
+					header(header);
+				}
+			}
+
+			if (annotation instanceof Blocking) {
+				blocking((Blocking) annotation);
+			}
+
+			if (annotation instanceof RolesAllowed) {
+				rolesAllowed(((RolesAllowed) annotation).value());
+			}
+
+			if (annotation instanceof RequireAllRoles) {
+				requireAllRoles(((RequireAllRoles) annotation).value());
+			}
+
+			if (annotation instanceof DenyAll) {
+				denyAll();
+			}
+
+			if (annotation instanceof PermitAll) {
+				permitAll();
+			}
+
+			if (annotation instanceof CatchWith) {
+				catchWith(((CatchWith) annotation).value());
+			}
+		}
+	}
+
+	/**
+	 * Methods below set route specifics by value, same as the corresponding annotations (used by generated route binders)
+	 */
+	public RouteDefinition order(int value) {
+
+		order = value;
+		return this;
+	}
+
+	public RouteDefinition path(String subPath) {
+
+		Assert.notNullOrEmptyTrimmed(subPath, "Missing or empty route '@Path'!");
+
+		// clean up path so all paths end with "/"
+		if (subPath.length() == 1 && DELIMITER.equals(subPath)) {
+			return this;
+		}
+
+		if (!subPath.startsWith(DELIMITER)) {
+			subPath = DELIMITER + subPath; // add leading "/"
+		}
+
+		if (subPath.endsWith(DELIMITER)) {
+			subPath = subPath.substring(0, subPath.length() - 1); // loose trailing "/"
+		}
+
+		if (DELIMITER.equals(path)) { // default
+			path = subPath;
+		} else {
+			path = path + subPath;
+		}
+
+		// extract parameters if any
+		List<MethodParameter> params = PathConverter.extract(path);
+		params(params);
+
+		// read path to Vert.X format
+		routePath = PathConverter.convert(path);
+
+		// regular expression paths are compiled once
+		pathPattern = params.stream().anyMatch(MethodParameter::isRegEx) ? PathConverter.compile(path) : null;
+
+		return this;
+	}
+
+
+	public RouteDefinition consumes(String[] value) {
+
+		Assert.notNullOrEmpty(value, "Missing '@Consumes' definition!");
+		consumes = getMediaTypes(value);
+		return this;
+	}
+
+	public RouteDefinition produces(String[] value) {
+
+		Assert.notNullOrEmpty(value, "Missing '@Produces' definition!");
+		produces = getMediaTypes(value);
+		return this;
+	}
+
+	private MediaType[] getMediaTypes(String[] value) {
+
+		List<MediaType> types = new ArrayList<>();
+		for (String item : value) {
+			MediaType type = MediaTypeHelper.valueOf(item);
+			if (type != null) {
+				types.add(type);
+			}
+		}
+
+		if (types.size() == 0) {
+			return null;
+		}
+
+		return types.toArray(new MediaType[]{});
+	}
+
+	private void blocking(Blocking annotation) {
+
+		blocking(annotation.value(), annotation.ordered(), annotation.pool(), annotation.poolSize(), annotation.maxQueue(), annotation.virtual());
+	}
+
+	public RouteDefinition blocking(boolean value, boolean ordered, String pool, int poolSize, int maxQueue, boolean virtual) {
+
+		Assert.isTrue(poolSize >= 0, "Expected @Blocking poolSize >= 0, but got: " + poolSize);
+		Assert.isTrue(maxQueue >= -1, "Expected @Blocking maxQueue >= -1, but got: " + maxQueue);
+
+		blocking = value;
+		this.ordered = ordered && !virtual; // virtual thread calls are not ordered (also when falling back to worker pool)
+		workerPool = StringUtils.trimToNull(pool);
+		workerPoolSize = poolSize;
+		this.maxQueue = maxQueue;
+		this.virtual = virtual;
+		return this;
+	}
+
+	private void header(Header header) {
+
+		header(header.name(), header.value());
+	}
+
+	public RouteDefinition header(String name, String value) {
+
+		Assert.notNullOrEmptyTrimmed(name, "Missing '@Header' name!");
+		Assert.notNull(value, "Missing '@Header' value for: " + name);
+
+		headers.put(name.trim(), value); // method definition overrides class definition
+		return this;
+	}
+
+	public RouteDefinition method(String value) {
+
+		for (HttpMethod item : HttpMethod.values()) {
+			if (StringUtils.equals(value, item.name(), true)) {
+				method = item;
+				break;
+			}
+		}
+
+		return this;
+	}
+
+	public RouteDefinition writer(Class<? extends HttpResponseWriter> value) {
+
+		writer = value;
+		return this;
+	}
+
+	public RouteDefinition reader(Class<? extends HttpRequestBodyReader> value) {
+
+		reader = value;
+		return this;
+	}
+
+	public RouteDefinition bodyLimit(long value) {
+
+		Assert.isTrue(value >= 0, "Expected @BodyLimit >= 0, but got: " + value);
+		bodyLimit = value;
+		return this;
+	}
+
+	public RouteDefinition rolesAllowed(String[] value) {
+
+		permitAll = null; // override any previous definition
+		roles = value;
+		return this;
+	}
+
+	public RouteDefinition requireAllRoles(boolean value) {
+
+		allRoles = value;
+		return this;
+	}
+
+	public RouteDefinition denyAll() {
+
+		roles = null; // override any previous definition
+		permitAll = false;
+		return this;
+	}
+
+	public RouteDefinition permitAll() {
+
+		roles = null; // override any previous definition
+		permitAll = true;
+		return this;
+	}
+
+	public RouteDefinition catchWith(Class<? extends ExceptionHandler>[] value) {
+
+		exceptionHandlers = ArrayUtils.join(value, exceptionHandlers);
+		return this;
+	}
+
+	private RouteDefinition params(List<MethodParameter> pathParams) {
+
+		if (pathParams == null || pathParams.size() == 0) {
+			return this;
+		}
+
+		params.clear();
+
+		// check if param is already present
+		for (MethodParameter parameter : pathParams) {
+
+			if (params.get(parameter.getName()) != null) {
+				throw new IllegalArgumentException("Duplicate parameter name given: " + parameter.getName() + "! ");
+			}
+
+			params.put(parameter.getName(), parameter);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Extracts method arguments and links them with annotated route parameters
+	 *
+	 * @param method to extract argument types and annotations from
+	 */
+	public void setArguments(Method method) {
+
+		Parameter[] parameters = method.getParameters();
+		String[] names = new String[parameters.length];
+		for (int index = 0; index < parameters.length; index++) {
+			names[index] = parameters[index].getName();
+		}
+
+		setArguments(method.getParameterTypes(), names, method.getParameterAnnotations());
+		setReturnType(method.getReturnType(), getTypeArgument(method.getGenericReturnType()));
+
+		// collection arguments ... take element type from generic argument type
+		Type[] genericTypes = method.getGenericParameterTypes();
+		Class<?>[] elementTypes = new Class<?>[genericTypes.length];
+		for (int index = 0; index < genericTypes.length; index++) {
+
+			elementTypes[index] = getTypeArgument(genericTypes[index]);
+		}
+
+		setElementTypes(elementTypes);
+	}
+
+	/**
+	 * @return type argument of single argument generic type, or null if not given
+	 */
+	private static Class<?> getTypeArgument(Type type) {
+
+		if (type instanceof ParameterizedType) {
+
+			Type[] typeArguments = ((ParameterizedType) type).getActualTypeArguments();
+			if (typeArguments.length == 1) {
+
+				if (typeArguments[0] instanceof Class) {
+					return (Class<?>) typeArguments[0];
+				}
+
+				if (typeArguments[0] instanceof ParameterizedType) {
+					return (Class<?>) ((ParameterizedType) typeArguments[0]).getRawType();
+				}
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Sets element types of collection (multi value) arguments
+	 *
+	 * @param elementTypes collection element type by argument index (null if argument is not a collection)
+	 */
+	public void setElementTypes(Class<?>[] elementTypes) {
+
+		Assert.notNull(elementTypes, "Missing element types!");
+
+		for (int index = 0; index < elementTypes.length; index++) {
+
+			MethodParameter parameter = findParameter(index);
+			if (parameter != null && parameter.isCollection()) {
+				parameter.setElementType(elementTypes[index]);
+			}
+		}
+	}
+
+	/**
+	 * Links method arguments with annotated route parameters
+	 *
+	 * @param parameterTypes method argument types
+	 * @param parameterNames method argument names
+	 * @param annotations    method argument annotations
+	 */
+	public void setArguments(Class<?>[] parameterTypes, String[] parameterNames, Annotation[][] annotations) {
+
+		Assert.notNull(parameterTypes, "Missing argument types!");
+		Assert.isTrue(annotations != null && annotations.length == parameterTypes.length, "Missing argument annotations!");
+
+		ParameterType[] types = new ParameterType[parameterTypes.length];
+		String[] names = new String[parameterTypes.length];
+		String[] defaultValues = new String[parameterTypes.length];
+
+		for (int index = 0; index < annotations.length; index++) {
+
+			for (Annotation annotation : annotations[index]) {
+
+				if (annotation instanceof PathParam) {
+					// find path param ... and set index ...
+					names[index] = ((PathParam) annotation).value();
+					types[index] = ParameterType.path;
+				}
+
+				if (annotation instanceof QueryParam) {
+					// add param
+					names[index] = ((QueryParam) annotation).value();
+					types[index] = ParameterType.query;
+				}
+
+				if (annotation instanceof DefaultValue) {
+
+					defaultValues[index] = ((DefaultValue) annotation).value();
+				}
+
+				if (annotation instanceof FormParam) {
+
+					types[index] = ParameterType.form;
+					names[index] = ((FormParam) annotation).value();
+				}
+
+				if (annotation instanceof CookieParam) {
+					types[index] = ParameterType.cookie;
+					names[index] = ((CookieParam) annotation).value();
+				}
+
+				if (annotation instanceof HeaderParam) {
+
+					types[index] = ParameterType.header;
+					names[index] = ((HeaderParam) annotation).value();
+				}
+
+				if (annotation instanceof Context) {
+
+					types[index] = ParameterType.context;
+					names[index] = null; // argument name is used
+				}
+			}
+		}
+
+		setArguments(parameterTypes, parameterNames, types, names, defaultValues, annotations);
+	}
+
+	/**
+	 * Links method arguments with route parameters given by value (used by generated route binders),
+	 * parameter annotations are not available to param converter providers
+	 *
+	 * @param parameterTypes method argument types
+	 * @param parameterNames method argument names
+	 * @param types          parameter type by argument index (null if argument is not annotated)
+	 * @param names          parameter name by argument index as given with annotation (null for {@code @Context} or if not annotated)
+	 * @param defaultValues  default value by argument index (null if none given)
+	 */
+	public void setArguments(Class<?>[] parameterTypes, String[] parameterNames, ParameterType[] types, String[] names, String[] defaultValues) {
+
+		Assert.notNull(parameterTypes, "Missing argument types!");
+		setArguments(parameterTypes, parameterNames, types, names, defaultValues, new Annotation[parameterTypes.length][0]);
+	}
+
+	private void setArguments(Class<?>[] parameterTypes, String[] parameterNames, ParameterType[] types, String[] names, String[] defaultValues, Annotation[][] annotations) {
+
+		Assert.isTrue(parameterNames != null && parameterNames.length == parameterTypes.length, "Missing argument names!");
+		Assert.isTrue(types != null && types.length == parameterTypes.length, "Missing argument parameter types!");
+		Assert.isTrue(names != null && names.length == parameterTypes.length, "Missing argument parameter names!");
+		Assert.isTrue(defaultValues != null && defaultValues.length == parameterTypes.length, "Missing argument default values!");
+
+		argumentCount = parameterTypes.length;
+
+		for (int index = 0; index < argumentCount; index++) {
+
+			ParameterType type = types[index];
+			String name = type == ParameterType.context ? parameterNames[index] : names[index];
+
+			// if no name provided than parameter is considered the request body
+			if (name == null) {
+
+				// try to find out what parameter type it is ... POST, PUT have a body ...
+				// regEx path might not have a name ...
+				MethodParameter param = findParameter(index);
+				if (param != null) {
+
+					Assert.isNull(param.getDataType(), "Duplicate argument type given: " + parameterNames[index]);
+					param.argument(parameterTypes[index]); // set missing argument type
+				} else {
+
+					Assert.isTrue(requestHasBody(), "Missing argument annotation (@PathParam, @QueryParam, @FormParam, @HeaderParam, @CookieParam, @Context) for: " +
+							                                parameterTypes[index].getName() + " " + parameterNames[index]);
+
+					name = parameterNames[index];
+					type = ParameterType.body;
+				}
+			}
+
+			if (name != null) {
+				MethodParameter parameter = provideArgument(name, type, defaultValues[index], parameterTypes[index], index);
+				parameter.setAnnotations(annotations[index]);
+				params.put(name, parameter);
+			}
+		}
+
+		// freeze parameters into argument order
+		arguments = new MethodParameter[argumentCount];
+		for (MethodParameter parameter : params.values()) {
+			if (parameter.getDataType() != null && parameter.getIndex() < argumentCount) {
+				arguments[parameter.getIndex()] = parameter;
+			}
+		}
+	}
+
+	public MethodParameter findParameter(int index) {
+
+		if (index < arguments.length && arguments[index] != null) {
+			return arguments[index];
+		}
+
+		if (params == null) {
+			return null;
+		}
+
+		for (MethodParameter parameter : params.values()) {
+			if (parameter.getIndex() == index) {
+				return parameter;
+			}
+		}
+
+		return null;
+	}
+
+	private MethodParameter provideArgument(String name, ParameterType type, String defaultValue, Class<?> parameterType, int index) {
+
+		Assert.notNull(type, "Argument: " + name + " (" + parameterType + ") can't be provided with Vert.x request, check and annotate method arguments!");
+
+		switch (type) {
+			case path:
+				MethodParameter found = params.get(name); // parameter should exist
+				Assert.notNull(found, "Missing @PathParam: " + name + "(" + parameterType + ") as method argument!");
+
+				found.argument(parameterType, index);
+				found.setDefaultValue(defaultValue);
+				return found;
+
+			default:
+				MethodParameter existing = params.get(name);
+				Assert.isNull(existing, "Duplicate argument: " + name + ", already provided!"); // param should not exist!
+
+				MethodParameter newParam = new MethodParameter(type, name, parameterType, index);
+				newParam.setDefaultValue(defaultValue);
+				return newParam;
+		}
+	}
+
+	public Class<?> getReturnType() {
+
+		return returnType;
+	}
+
+	public void setReturnType(Class<?> type) {
+
+		setReturnType(type, null);
+	}
+
+	/**
+	 * Sets method return type
+	 *
+	 * @param type         method return type
+	 * @param typeArgument generic type argument of return type (if any)
+	 */
+	public void setReturnType(Class<?> type, Class<?> typeArgument) {
+
+		returnType = type;
+		resultType = type;
+
+		if (isAsync()) {
+			// Observable items are collected into a list
+			if (Observable.class.isAssignableFrom(type)) {
+				resultType = List.class;
+			} else {
+				resultType = typeArgument == null ? Object.class : typeArgument;
+			}
+		}
+	}
+
+	/**
+	 * @return true if method returns result asynchronously (Future, CompletionStage, Single, Observable)
+	 */
+	public boolean isAsync() {
+
+		return AsyncResults.isAsync(returnType);
+	}
+
+	/**
+	 * @return type of result to be written to response (type of asynchronous result if method is asynchronous)
+	 */
+	public Class<?> getResultType() {
+
+		return resultType;
+	}
+
+	/**
+	 * @return number of method arguments
+	 */
+	public int getArgumentCount() {
+
+		return argumentCount;
+	}
+
+	/**
+	 * @return method parameters in argument order (slot is null if argument is not bound to a parameter),
+	 * array is shared and must not be modified
+	 */
+	public MethodParameter[] getArguments() {
+
+		return arguments;
+	}
+
+	public String getPath() {
+
+		return path;
+	}
+
+	public String getRoutePath() {
+
+		if (pathPattern != null) {
+			return pathPattern.pattern();
+		}
+
+		return routePath;
+	}
+
+	/**
+	 * @return compiled regular expression path or null if path is not a regular expression
+	 */
+	public Pattern getPathPattern() {
+
+		return pathPattern;
+	}
+
+	public MediaType[] getConsumes() {
+
+		return consumes;
+	}
+
+	public MediaType[] getProduces() {
+
+		return produces;
+	}
+
+	public HttpMethod getMethod() {
+
+		return method;
+	}
+
+	public int getOrder() {
+
+		return order;
+	}
+
+	public Class<? extends HttpResponseWriter> getWriter() {
+
+		return writer;
+	}
+
+	public Class<? extends HttpRequestBodyReader> getReader() {
+
+		return reader;
+	}
+
+	public Class<? extends ExceptionHandler>[] getExceptionHandlers() {
+		// join failure writers with global ... and return
+		return exceptionHandlers;
+	}
+
+	public List<MethodParameter> getParameters() {
+
+		if (params == null) {
+			return Collections.emptyList();
+		}
+
+		ArrayList<MethodParameter> list = new ArrayList<>(params.values());
+		list.sort(Comparator.comparing(MethodParameter::getIndex)); // sort parameters by index ...
+		return list;
+	}
+
+	public boolean requestHasBody() {
+
+		return !(HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method));
+	}
+
+	public boolean hasBodyParameter() {
+
+		return getBodyParameter() != null;
+	}
+
+	public MethodParameter getBodyParameter() {
+
+		if (params == null) {
+			return null;
+		}
+
+		return params.values().stream().filter(param -> ParameterType.body.equals(param.getType())).findFirst().orElse(null);
+	}
+
+	/**
+	 * @return max request body size in bytes or -1 if not limited
+	 */
+	public long getBodyLimit() {
+
+		return bodyLimit;
+	}
+
+	/**
+	 * @return static response headers (name, value) or empty map if none defined
+	 */
+	public Map<String, String> getHeaders() {
+
+		return Collections.unmodifiableMap(headers);
+	}
+
+	public boolean hasCookies() {
+
+		if (params == null) {
+			return false;
+		}
+
+		return params.values().stream().anyMatch(param -> ParameterType.cookie.equals(param.getType()));
+	}
+
+	/**
+	 * @return true if method is given the RoutingContext, so cookies might be added to the response
+	 */
+	public boolean writesCookies() {
+
+		for (MethodParameter argument : arguments) {
+			if (argument != null &&
+			    ParameterType.context.equals(argument.getType()) &&
+			    RoutingContext.class.isAssignableFrom(argument.getDataType())) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	public boolean pathIsRegEx() {
+
+		return pathPattern != null;
+	}
+
+	public boolean isBlocking() {
+
+		return blocking;
+	}
+
+	/**
+	 * @return true if blocking calls are executed one after another (per vert.x context), false if executed concurrently
+	 */
+	public boolean isOrdered() {
+
+		return ordered;
+	}
+
+	/**
+	 * @return name of shared worker pool or null if vert.x worker pool is used
+	 */
+	public String getWorkerPool() {
+
+		return workerPool;
+	}
+
+	/**
+	 * @return size of named worker pool (0 vert.x default)
+	 */
+	public int getWorkerPoolSize() {
+
+		return workerPoolSize;
+	}
+
+	/**
+	 * @return max number of calls waiting or executing in worker pool or -1 if not limited
+	 */
+	public int getMaxQueue() {
+
+		return maxQueue;
+	}
+
+	/**
+	 * @return true if method should be invoked on a virtual thread (worker pool is used if not supported by JDK)
+	 */
+	public boolean isVirtual() {
+
+		return virtual;
+	}
+
+	/**
+	 * @return true - permit all, false - deny all, null - check roles
+	 */
+	public Boolean getPermitAll() {
+
+		return permitAll;
+	}
+
+	/**
+	 * @return null - no roles defined, or array of allowed roles
+	 */
+	public String[] getRoles() {
+
+		return roles;
+	}
+
+	/**
+	 * @return true - user must have all roles, false - any of given roles is sufficient
+	 */
+	public boolean requiresAllRoles() {
+
+		return allRoles;
+	}
+
+	/**
+	 * @return true to check if User is in given role, false otherwise
+	 */
+	public boolean checkSecurity() {
+
+		return permitAll != null || (roles != null && roles.length > 0);
+	}
+
+	@Override
+	public String toString() {
+
+		String prefix = "        "; // to improve formatting ...
+		prefix = prefix.substring(0, prefix.length() - method.toString().length());
+
+		String security = "";
+		if (checkSecurity()) {
+
+			if (permitAll != null) {
+				security = permitAll ? "  @PermitAll" : "  @DenyAll";
+			} else {
+				security = "  [" + StringUtils.join(roles, ", ") + "]";
+			}
+		}
+
+		return prefix + method + " " + routePath + security;
+	}
+}
@@ -0,0 +1,304 @@
+package com.zandero.rest.data;
+
+import com.zandero.rest.exception.ClassFactoryException;
+import com.zandero.rest.exception.ExceptionHandler;
+import com.zandero.rest.exception.ExceptionHandlerFactory;
+import com.zandero.rest.reader.HttpRequestBodyReader;
+import com.zandero.rest.writer.HttpResponseWriter;
+import com.zandero.utils.Assert;
+import io.vertx.core.http.HttpHeaders;
+
+import javax.ws.rs.core.MediaType;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable route invocation plan
+ * resolved once when route is registered, so each request only extracts arguments, invokes and writes a response
+ */
+public final class RouteInvocation {
+
+	/**
+	 * REST API instance to invoke method on
+	 */
+	private final Object api;
+
+	/**
+	 * prepared method invoker (bound to api instance)
+	 */
+	private final MethodInvoker invoker;
+
+	/**
+	 * route definition as given with annotations
+	 */
+	private final RouteDefinition definition;
+
+	/**
+	 * method parameters by argument index
+	 */
+	private final MethodParameter[] parameters;
+
+	/**
+	 * prepared argument extractors by argument index
+	 */
+	private final ArgumentExtractor[] extractors;
+
+	/**
+	 * media types route produces (in order of preference) or null if not given
+	 */
+	private final MediaType[] produces;
+
+	/**
+	 * Content-Type header values (same order as produces)
+	 */
+	private final String[] contentTypes;
+
+	/**
+	 * prepared response headers (same order as produces), single set if produces not given
+	 */
+	private final ResponseHeaders[] responseHeaders;
+
+	/**
+	 * resolved response writer per produced media type (same order as produces), single writer if produces not given
+	 */
+	private final HttpResponseWriter[] writers;
+
+	/**
+	 * resolved request body reader or null if route has no body
+	 */
+	private final HttpRequestBodyReader reader;
+
+	/**
+	 * route (class or method) associated exception handlers in order of consideration
+	 */
+	private final ExceptionHandler[] exceptionHandlers;
+
+	/**
+	 * exception types handled by exception handlers (same order as handlers)
+	 */
+	private final Type[] exceptionTypes;
+
+	/**
+	 * globally registered exception handlers (of router route is registered with)
+	 */
+	private final ExceptionHandlerFactory globalHandlers;
+
+	/**
+	 * route associated exception handler by exception type (resolved once per exception type)
+	 */
+	private final ClassValue<Optional<ExceptionHandler>> dispatch = new ClassValue<Optional<ExceptionHandler>>() {
+		@Override
+		protected Optional<ExceptionHandler> computeValue(Class<?> type) {
+
+			return Optional.ofNullable(findExceptionHandler(type));
+		}
+	};
+
+	public RouteInvocation(Object api,
+	                       MethodInvoker invoker,
+	                       RouteDefinition definition,
+	                       HttpResponseWriter[] writers,
+	                       HttpRequestBodyReader reader,
+	                       ArgumentExtractor[] extractors,
+	                       ExceptionHandler[] handlers,
+	                       ExceptionHandlerFactory globalHandlers) {
+
+		Assert.notNull(api, "Missing REST API instance!");
+		Assert.notNull(invoker, "Missing method invoker!");
+		Assert.notNull(definition, "Missing route definition!");
+		Assert.notNullOrEmpty(writers, "Missing response writer!");
+		Assert.notNull(extractors, "Missing argument extractors!");
+		Assert.notNull(globalHandlers, "Missing exception handler factory!");
+
+		this.api = api;
+		this.invoker = invoker;
+		this.definition = definition;
+		this.writers = writers;
+
+		produces = definition.getProduces() != null && definition.getProduces().length > 0 ? definition.getProduces() : null;
+		Assert.isTrue(produces == null || produces.length == writers.length, "Expected response writer for each produced media type!");
+
+		contentTypes = new String[produces == null ? 0 : produces.length];
+		for (int index = 0; index < contentTypes.length; index++) {
+			contentTypes[index] = produces[index].toString();
+		}
+
+		responseHeaders = getResponseHeaders(definition, contentTypes);
+		this.reader = reader;
+		this.globalHandlers = globalHandlers;
+
+		parameters = definition.getArguments();
+		this.extractors = extractors;
+
+		exceptionHandlers = handlers == null ? new ExceptionHandler[0] : handlers;
+		exceptionTypes = new Type[exceptionHandlers.length];
+		for (int index = 0; index < exceptionHandlers.length; index++) {
+			exceptionTypes[index] = ClassFactory.getGenericType(exceptionHandlers[index].getClass());
+		}
+	}
+
+	public Object getApi() {
+
+		return api;
+	}
+
+	/**
+	 * Invokes method with given arguments
+	 *
+	 * @param args method arguments
+	 * @return method result
+	 * @throws Exception as thrown by method
+	 */
+	public Object invoke(Object[] args) throws Exception {
+
+		return invoker.invoke(args);
+	}
+
+	public RouteDefinition getDefinition() {
+
+		return definition;
+	}
+
+	public MethodParameter[] getParameters() {
+
+		return parameters;
+	}
+
+	public ArgumentExtractor[] getExtractors() {
+
+		return extractors;
+	}
+
+	/**
+	 * @return writer of preferred media type
+	 */
+	public HttpResponseWriter getWriter() {
+
+		return writers[0];
+	}
+
+	/**
+	 * Picks produced media type according to Accept header
+	 *
+	 * @param accept Accept header or null if not given
+	 * @return index of media type to respond with (to be used with getWriter(index) and getContentType(index))
+	 */
+	public int negotiate(String accept) {
+
+		if (produces == null) {
+			return 0;
+		}
+
+		int index = AcceptHeader.negotiate(accept, produces);
+		return index < 0 ? 0 : index; // nothing acceptable ... route was matched by produces, use preferred
+	}
+
+	/**
+	 * @param index as negotiated
+	 * @return writer associated with negotiated media type
+	 */
+	public HttpResponseWriter getWriter(int index) {
+
+		return writers[index];
+	}
+
+	/**
+	 * @param index as negotiated
+	 * @return content type to respond with or null if route does not define produced media types
+	 */
+	public String getContentType(int index) {
+
+		return produces == null ? null : contentTypes[index];
+	}
+
+	/**
+	 * @param index as negotiated
+	 * @return prepared headers (Content-Type and static headers) to respond with
+	 */
+	public ResponseHeaders getResponseHeaders(int index) {
+
+		return responseHeaders[index];
+	}
+
+	private static ResponseHeaders[] getResponseHeaders(RouteDefinition definition, String[] contentTypes) {
+
+		Map<String, String> headers = definition.getHeaders();
+		if (contentTypes.length > 1 && !headers.containsKey(HttpHeaders.VARY.toString())) {
+			// response depends on Accept header
+			headers = new LinkedHashMap<>(headers);
+			headers.put(HttpHeaders.VARY.toString(), HttpHeaders.ACCEPT.toString());
+		}
+
+		if (contentTypes.length == 0) {
+			return new ResponseHeaders[]{new ResponseHeaders(null, headers)};
+		}
+
+		ResponseHeaders[] output = new ResponseHeaders[contentTypes.length];
+		for (int index = 0; index < contentTypes.length; index++) {
+			output[index] = new ResponseHeaders(contentTypes[index], headers);
+		}
+
+		return output;
+	}
+
+	public HttpRequestBodyReader getReader() {
+
+		return reader;
+	}
+
+	/**
+	 * Finds most specific route associated exception handler able to handle given exception
+	 * (closest handled exception type in class hierarchy, resolved once per exception type),
+	 * globally registered handlers are considered only if none matches
+	 *
+	 * @param exception to be handled
+	 * @return exception handler
+	 * @throws ClassFactoryException in case global exception handler could not be instantiated
+	 */
+	public ExceptionHandler getExceptionHandler(Class<? extends Throwable> exception) throws ClassFactoryException {
+
+		if (exceptionHandlers.length > 0) {
+			ExceptionHandler handler = dispatch.get(exception).orElse(null);
+			if (handler != null) {
+				return handler;
+			}
+		}
+
+		return globalHandlers.getExceptionHandler(null, exception);
+	}
+
+	/**
+	 * @param exception type
+	 * @return handler of closest exception type (in class hierarchy), handlers at same distance are considered in given order
+	 */
+	private ExceptionHandler findExceptionHandler(Class<?> exception) {
+
+		ExceptionHandler found = null;
+		int closest = Integer.MAX_VALUE;
+
+		for (int index = 0; index < exceptionHandlers.length; index++) {
+
+			Type type = exceptionTypes[index];
+			if (!ClassFactory.checkIfCompatibleTypes(exception, type)) {
+				continue;
+			}
+
+			int distance = Integer.MAX_VALUE - 1; // generic handler ... least specific
+			if (type instanceof Class) {
+				int classDistance = ClassFactory.getDistance(exception, (Class<?>) type);
+				if (classDistance >= 0) {
+					distance = classDistance;
+				}
+			}
+
+			if (distance < closest) {
+				closest = distance;
+				found = exceptionHandlers[index];
+			}
+		}
+
+		return found;
+	}
+}
@@ -0,0 +1,401 @@
+package com.zandero.rest.data;
+
+import com.zandero.utils.Assert;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+
+import javax.ws.rs.core.MediaType;
+import java.util.*;
+
+/**
+ * Resolves method and path of a request in a prebuilt segment tree (single vert.x route for many REST routes)
+ * static segments are matched by hash lookup, path parameters are bound by segment index (no regular expressions)
+ *
+ * Requests matching a path but no method are answered with 405 and an Allow header,
+ * requests not matching any path (or consumes/produces) are passed on to next vert.x route
+ */
+public final class RouteTree implements Handler<RoutingContext> {
+
+	private static final int METHOD_NOT_ALLOWED = 405;
+
+	private static final String DELIMITER = "/";
+
+	private static final String PARAM_PREFIX = ":";
+
+	private final Node root = new Node();
+
+	private int size = 0;
+
+	/**
+	 * lowest route order of bound routes
+	 */
+	private int order = 0;
+
+	/**
+	 * Single route bound to a path and method
+	 */
+	private static final class Endpoint {
+
+		private final RouteDefinition definition;
+
+		private final Handler<RoutingContext> handler;
+
+		/**
+		 * segment index of each path parameter
+		 */
+		private final int[] paramSegments;
+
+		/**
+		 * path parameter names (same order as paramSegments)
+		 */
+		private final String[] paramNames;
+
+		Endpoint(RouteDefinition definition, Handler<RoutingContext> handler, String[] segments) {
+
+			this.definition = definition;
+			this.handler = handler;
+
+			List<Integer> indexes = new ArrayList<>();
+			List<String> names = new ArrayList<>();
+			for (int index = 0; index < segments.length; index++) {
+				if (segments[index].startsWith(PARAM_PREFIX)) {
+					indexes.add(index);
+					names.add(segments[index].substring(PARAM_PREFIX.length()));
+				}
+			}
+
+			paramSegments = indexes.stream().mapToInt(Integer::intValue).toArray();
+			paramNames = names.toArray(new String[0]);
+		}
+
+		boolean accepts(String contentType, String accept) {
+
+			MediaType[] consumes = definition.getConsumes();
+			if (consumes != null && consumes.length > 0 && !consumes(consumes, contentType)) {
+				return false;
+			}
+
+			MediaType[] produces = definition.getProduces();
+			return produces == null || produces.length == 0 || AcceptHeader.negotiate(accept, produces) >= 0;
+		}
+
+		private static boolean consumes(MediaType[] consumes, String contentType) {
+
+			if (contentType == null) {
+				return false;
+			}
+
+			MediaType type;
+			try {
+				type = MediaTypeHelper.valueOf(contentType);
+			}
+			catch (IllegalArgumentException e) {
+				return false;
+			}
+
+			for (MediaType item : consumes) {
+				if (item == type || item.isCompatible(type)) { // same canonical instance in most cases
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		void bind(HttpServerRequest request, String[] segments) {
+
+			if (paramNames.length == 0) {
+				return;
+			}
+
+			MultiMap params = request.params();
+			for (int index = 0; index < paramNames.length; index++) {
+				params.add(paramNames[index], PathConverter.decode(segments[paramSegments[index]]));
+			}
+		}
+	}
+
+	/**
+	 * Single path segment
+	 */
+	private static final class Node {
+
+		private final Map<String, Node> children = new HashMap<>();
+
+		private Node param;
+
+		private final Map<HttpMethod, List<Endpoint>> endpoints = new EnumMap<>(HttpMethod.class);
+
+		/**
+		 * Allow header value (methods bound to this node)
+		 */
+		private CharSequence allow;
+
+		Node child(String segment) {
+
+			if (segment.startsWith(PARAM_PREFIX)) {
+				if (param == null) {
+					param = new Node();
+				}
+
+				return param;
+			}
+
+			return children.computeIfAbsent(segment, key -> new Node());
+		}
+
+		void add(HttpMethod method, Endpoint endpoint) {
+
+			List<Endpoint> list = endpoints.computeIfAbsent(method, key -> new ArrayList<>());
+			list.add(endpoint);
+			list.sort(Comparator.comparingInt(item -> item.definition.getOrder())); // stable, keeps order of registration
+
+			StringJoiner joiner = new StringJoiner(", ");
+			endpoints.keySet().forEach(item -> joiner.add(item.name()));
+			allow = HttpHeaders.createOptimized(joiner.toString());
+		}
+
+		/**
+		 * Static segments take precedence over path parameters, backtracks if static segment leads nowhere
+		 *
+		 * @param segments request path segments
+		 * @param depth    current segment index
+		 * @param method   method to match or null to match any bound method
+		 * @return matching node or null if none found
+		 */
+		Node find(String[] segments, int depth, HttpMethod method) {
+
+			if (depth == segments.length) {
+				boolean found = method == null ? !endpoints.isEmpty() : endpoints.containsKey(method);
+				return found ? this : null;
+			}
+
+			Node child = children.get(segments[depth]);
+			if (child != null) {
+				Node found = child.find(segments, depth + 1, method);
+				if (found != null) {
+					return found;
+				}
+			}
+
+			return param == null ? null : param.find(segments, depth + 1, method);
+		}
+	}
+
+	/**
+	 * Outcome of request path lookup
+	 */
+	public static final class Match {
+
+		private final Node node;
+
+		private final HttpMethod method;
+
+		private final String[] segments;
+
+		private Match(Node node, HttpMethod method, String[] segments) {
+
+			this.node = node;
+			this.method = method;
+			this.segments = segments;
+		}
+
+		/**
+		 * @return true if method is bound to matched path, false if 405 should be given
+		 */
+		public boolean isAllowed() {
+
+			return node.endpoints.containsKey(method);
+		}
+
+		/**
+		 * @return methods bound to matched path (Allow header value)
+		 */
+		public CharSequence getAllow() {
+
+			return node.allow;
+		}
+
+		/**
+		 * @param contentType request Content-Type or null if not given
+		 * @param accept      request Accept header or null if not given
+		 * @return first route (in order) consuming and producing requested media types or null if none found
+		 */
+		private Endpoint getEndpoint(String contentType, String accept) {
+
+			List<Endpoint> list = node.endpoints.get(method);
+			if (list == null) {
+				return null;
+			}
+
+			for (Endpoint endpoint : list) {
+				if (endpoint.accepts(contentType, accept)) {
+					return endpoint;
+				}
+			}
+
+			return null;
+		}
+
+		/**
+		 * @return route definition of first route bound to matched path and method or null if method is not allowed
+		 */
+		public RouteDefinition getDefinition() {
+
+			List<Endpoint> list = node.endpoints.get(method);
+			return list == null ? null : list.get(0).definition;
+		}
+	}
+
+	/**
+	 * @param definition route definition
+	 * @return true if route can be resolved by tree, false if route must be bound as vert.x route (regular expressions, wildcards)
+	 */
+	public static boolean supports(RouteDefinition definition) {
+
+		return definition != null &&
+		       definition.getMethod() != null &&
+		       !definition.pathIsRegEx() &&
+		       !definition.getRoutePath().contains("*");
+	}
+
+	/**
+	 * Binds route handler to method and path of given definition
+	 *
+	 * @param definition route definition
+	 * @param handler    route handler
+	 */
+	public void add(RouteDefinition definition, Handler<RoutingContext> handler) {
+
+		Assert.notNull(definition, "Missing route definition!");
+		Assert.notNull(handler, "Missing route handler!");
+		Assert.isTrue(supports(definition), "Route can't be resolved by route tree: " + definition);
+
+		String[] segments = split(definition.getRoutePath());
+
+		Node node = root;
+		for (String segment : segments) {
+			node = node.child(segment);
+		}
+
+		node.add(definition.getMethod(), new Endpoint(definition, handler, segments));
+		order = size == 0 ? definition.getOrder() : Math.min(order, definition.getOrder());
+		size++;
+	}
+
+	/**
+	 * @return number of bound routes
+	 */
+	public int size() {
+
+		return size;
+	}
+
+	public boolean isEmpty() {
+
+		return size == 0;
+	}
+
+	/**
+	 * @return lowest route order of bound routes (order of vert.x route resolving the tree)
+	 */
+	public int getOrder() {
+
+		return order;
+	}
+
+	/**
+	 * Finds node matching path, nodes bound to given method take precedence
+	 *
+	 * @param method request method
+	 * @param path   request path
+	 * @return match or null if path is not bound
+	 */
+	public Match match(HttpMethod method, String path) {
+
+		String[] segments = split(path);
+
+		Node node = root.find(segments, 0, method);
+		if (node == null) {
+			node = root.find(segments, 0, null); // method not allowed?
+		}
+
+		return node == null ? null : new Match(node, method, segments);
+	}
+
+	@Override
+	public void handle(RoutingContext context) {
+
+		HttpServerRequest request = context.request();
+
+		Match match = match(request.method(), getPath(context));
+		if (match == null) {
+			context.next();
+			return;
+		}
+
+		if (!match.isAllowed()) {
+			context.response()
+			       .setStatusCode(METHOD_NOT_ALLOWED)
+			       .putHeader(HttpHeaders.ALLOW, match.getAllow())
+			       .end();
+			return;
+		}
+
+		Endpoint endpoint = match.getEndpoint(request.getHeader(HttpHeaders.CONTENT_TYPE), request.getHeader(HttpHeaders.ACCEPT));
+		if (endpoint == null) { // consumes / produces not matching
+			context.next();
+			return;
+		}
+
+		endpoint.bind(request, match.segments);
+		endpoint.handler.handle(context);
+	}
+
+	/**
+	 * @return normalised request path without mount point (in case router is mounted as sub router)
+	 */
+	private static String getPath(RoutingContext context) {
+
+		String path = context.normalisedPath();
+		String mountPoint = context.mountPoint();
+
+		if (mountPoint != null && path.startsWith(mountPoint)) {
+			path = path.substring(mountPoint.endsWith(DELIMITER) ? mountPoint.length() - 1 : mountPoint.length());
+		}
+
+		return path;
+	}
+
+	/**
+	 * Splits path into non empty segments ("/a//b/" gives [a, b])
+	 */
+	static String[] split(String path) {
+
+		if (path == null || path.isEmpty() || DELIMITER.equals(path)) {
+			return new String[0];
+		}
+
+		List<String> output = new ArrayList<>();
+		int start = 0;
+		while (start < path.length()) {
+
+			int end = path.indexOf('/', start);
+			if (end < 0) {
+				end = path.length();
+			}
+
+			if (end > start) {
+				output.add(path.substring(start, end));
+			}
+
+			start = end + 1;
+		}
+
+		return output.toArray(new String[0]);
+	}
+}
@@ -0,0 +1,165 @@
+package com.zandero.rest.exception;
+
+import com.zandero.rest.data.ClassFactory;
+import com.zandero.utils.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.ws.rs.WebApplicationException;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ *
+ */
+public class ExceptionHandlerFactory extends ClassFactory<ExceptionHandler> {
+
+	private final static Logger log = LoggerFactory.getLogger(ExceptionHandlerFactory.class);
+
+	/**
+	 * standalone list of global handlers (copy-on-write, initialized by init())
+ 	 */
+	private volatile List<Class<? extends ExceptionHandler>> exceptionHandlers;
+
+	/**
+	 * resolved global handler by exception type (replaced on registration)
+	 */
+	private volatile HandlerLookup handlerLookup;
+
+	@Override
+	protected void init() {
+
+		exceptionHandlers = new CopyOnWriteArrayList<>();
+		handlerLookup = new HandlerLookup(exceptionHandlers);
+
+		// register handlers from specific to general ...
+		// when searching the most specific handler is returned
+		classType(WebApplicationException.class, WebApplicationExceptionHandler.class);
+		classType(Throwable.class, GenericExceptionHandler.class);
+	}
+
+	public ExceptionHandler getExceptionHandler(Class<? extends ExceptionHandler>[] handlers,
+	                                            Class<? extends Throwable> aClass) throws ClassFactoryException {
+
+		// trickle down ... from definition to default handler
+		Class<? extends ExceptionHandler> found = null;
+
+		// as given in REST (class or method annotation)
+		if (handlers != null && handlers.length > 0) {
+			found = find(Arrays.asList(handlers), aClass);
+		}
+
+		// as globally registered (resolved once per exception type)
+		if (found == null) {
+			found = handlerLookup.get(aClass).orElse(null);
+		}
+
+		// get by exception type from classTypes list
+		if (found == null) {
+			found = super.get(aClass);
+		}
+
+		// nothing found provide generic
+		if (found == null) {
+			found = GenericExceptionHandler.class;
+		}
+
+		return super.getClassInstance(found);
+	}
+
+	/**
+	 * Finds handler of closest exception type (in class hierarchy), handlers at same distance are considered in given order
+	 *
+	 * @param handlers  to search
+	 * @param exception thrown exception type
+	 * @return most specific compatible handler or null if none found
+	 */
+	private static Class<? extends ExceptionHandler> find(List<Class<? extends ExceptionHandler>> handlers, Class<? extends Throwable> exception) {
+
+		Class<? extends ExceptionHandler> found = null;
+		int closest = Integer.MAX_VALUE;
+
+		for (Class<? extends ExceptionHandler> handler : handlers) {
+
+			Type type = getGenericType(handler);
+			if (!checkIfCompatibleTypes(exception, type)) {
+				continue;
+			}
+
+			int distance = Integer.MAX_VALUE - 1; // generic handler ... least specific
+			if (type instanceof Class) {
+				int classDistance = getDistance(exception, (Class<?>) type);
+				if (classDistance >= 0) {
+					distance = classDistance;
+				}
+			}
+
+			if (distance < closest) {
+				closest = distance;
+				found = handler;
+			}
+		}
+
+		return found;
+	}
+
+	/**
+	 * Caches most specific globally registered handler per exception type
+	 */
+	private static final class HandlerLookup extends ClassValue<Optional<Class<? extends ExceptionHandler>>> {
+
+		private final List<Class<? extends ExceptionHandler>> handlers;
+
+		private HandlerLookup(List<Class<? extends ExceptionHandler>> handlers) {
+
+			this.handlers = handlers;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		protected Optional<Class<? extends ExceptionHandler>> computeValue(Class<?> type) {
+
+			if (handlers.isEmpty() || !Throwable.class.isAssignableFrom(type)) {
+				return Optional.empty();
+			}
+
+			return Optional.ofNullable(find(handlers, (Class<? extends Throwable>) type));
+		}
+	}
+
+	/**
+	 * Provides instances of given exception handlers (in given order)
+	 *
+	 * @param handlers list of exception handler classes as associated with REST (class or method annotation)
+	 * @return array of exception handler instances, or empty array if none given
+	 * @throws ClassFactoryException in case handler could not be instantiated
+	 */
+	public ExceptionHandler[] getExceptionHandlers(Class<? extends ExceptionHandler>[] handlers) throws ClassFactoryException {
+
+		if (handlers == null || handlers.length == 0) {
+			return new ExceptionHandler[0];
+		}
+
+		ExceptionHandler[] output = new ExceptionHandler[handlers.length];
+		for (int index = 0; index < handlers.length; index++) {
+			output[index] = super.getClassInstance(handlers[index]);
+		}
+
+		return output;
+	}
+
+	@SafeVarargs
+	public final void register(Class<? extends ExceptionHandler>... handlers) {
+
+		Assert.notNullOrEmpty(handlers, "Missing exception handler(s)!");
+		Assert.isFalse(isFrozen(), "Can't register into frozen " + getClass().getSimpleName() + "!");
+
+		synchronized (this) {
+			exceptionHandlers.addAll(Arrays.asList(handlers));
+			handlerLookup = new HandlerLookup(exceptionHandlers); // previously resolved handlers might change
+		}
+	}
+}
@@ -2,7 +2,10 @@ package com.zandero.rest.exception;
 
 /**
  * Wrapper to transport exception when executing a REST call
+ *
+ * @deprecated not used, exceptions thrown are handled directly; use {@link StacklessException} to respond with a given status code
  */
+@Deprecated
 public class ExecuteException extends Exception {
 
 	/**
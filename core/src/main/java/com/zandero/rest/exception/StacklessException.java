@@ -0,0 +1,37 @@
+package com.zandero.rest.exception;
+
+/**
+ * Expected client error (bad request by default) created without a stack trace
+ *
+ * Filling in the stack trace is the most expensive part of throwing an exception,
+ * for errors like invalid or missing parameters the stack trace is of no use
+ */
+public class StacklessException extends IllegalArgumentException {
+
+	/**
+	 * HTTP status code to respond with
+	 */
+	private final int statusCode;
+
+	public StacklessException(String message) {
+
+		this(400, message);
+	}
+
+	public StacklessException(int status, String message) {
+
+		super(message);
+		statusCode = status;
+	}
+
+	public int getStatusCode() {
+
+		return statusCode;
+	}
+
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+
+		return this; // no stack trace
+	}
+}
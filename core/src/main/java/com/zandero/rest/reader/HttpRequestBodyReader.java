@@ -0,0 +1,27 @@
+package com.zandero.rest.reader;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Request body reader interface to implement
+ * to read request body and converting request body to given object type
+ *
+ * Use RestRouter.getReaders().register(...) to register a global reader
+ * or use @RequestReader annotation to associate REST with given reader
+ */
+public interface HttpRequestBodyReader<T> {
+
+	T read(String value, Class<T> type);
+
+	/**
+	 * Reads request body as given (bytes), override to convert body without decoding it into a String first
+	 *
+	 * @param value request body or null if no body was given
+	 * @param type  to convert body to
+	 * @return converted body
+	 */
+	default T readBuffer(Buffer value, Class<T> type) {
+
+		return read(value == null ? null : value.toString(), type);
+	}
+}
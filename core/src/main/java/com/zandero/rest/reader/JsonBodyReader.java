@@ -0,0 +1,58 @@
+package com.zandero.rest.reader;
+
+import com.zandero.utils.StringUtils;
+import com.zandero.utils.extra.JsonUtils;
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Converts request body to JSON
+ */
+public class JsonBodyReader<T> implements HttpRequestBodyReader<T> {
+
+	@Override
+	public T read(String value, Class<T> type) {
+
+		if (StringUtils.isNullOrEmptyTrimmed(value)) {
+			return null;
+		}
+
+		return JsonUtils.fromJson(value, type, io.vertx.core.json.Json.mapper);
+	}
+
+	/**
+	 * Parses JSON directly from request body bytes (body is not decoded into a String)
+	 */
+	@Override
+	public T readBuffer(Buffer value, Class<T> type) {
+
+		if (isNullOrBlank(value)) {
+			return null;
+		}
+
+		try (InputStream stream = new ByteBufInputStream(value.getByteBuf())) {
+			return io.vertx.core.json.Json.mapper.readValue(stream, type);
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException(e.getMessage(), e);
+		}
+	}
+
+	private static boolean isNullOrBlank(Buffer value) {
+
+		if (value == null) {
+			return true;
+		}
+
+		for (int index = 0; index < value.length(); index++) {
+			if (!Character.isWhitespace(value.getByte(index))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
@@ -25,10 +25,10 @@ public class ReaderFactory extends ClassFactory<HttpRequestBodyReader> {
 	@Override
 	protected void init() {
 
-		classTypes.put(String.class, GenericBodyReader.class);
+		classType(String.class, GenericBodyReader.class);
 
-		mediaTypes.put(MediaType.APPLICATION_JSON, JsonBodyReader.class);
-		mediaTypes.put(MediaType.TEXT_PLAIN, GenericBodyReader.class);
+		mediaType(MediaType.APPLICATION_JSON, JsonBodyReader.class);
+		mediaType(MediaType.TEXT_PLAIN, GenericBodyReader.class);
 	}
 
 	/**
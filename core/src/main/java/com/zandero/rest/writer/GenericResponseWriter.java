@@ -11,12 +11,26 @@ import org.slf4j.LoggerFactory;
 /**
  * Tries to find and utilize associated mime type / media type writer
  * If no writer found a generic Object.toString() write is triggered
+ *
+ * Writers are looked up in the writer factory given (router registrations) or in globally registered writers if none given
  */
 @SuppressWarnings("unchecked")
 public class GenericResponseWriter<T> implements HttpResponseWriter<T> {
 
 	private final static Logger log = LoggerFactory.getLogger(GenericResponseWriter.class);
 
+	private final WriterFactory writers;
+
+	public GenericResponseWriter() {
+
+		this(null);
+	}
+
+	public GenericResponseWriter(WriterFactory writers) {
+
+		this.writers = writers;
+	}
+
 	@Override
 	public void write(T result, HttpServerRequest request, HttpServerResponse response) {
 
@@ -24,7 +38,7 @@ public class GenericResponseWriter<T> implements HttpResponseWriter<T> {
 
 		HttpResponseWriter writer;
 		try {
-			writer = RestRouter.getWriters().get(mediaType);
+			writer = getWriters().get(mediaType);
 		}
 		catch (ClassFactoryException e) {
 			// writer = RestRouter.getWriters().get(result);
@@ -45,4 +59,9 @@ public class GenericResponseWriter<T> implements HttpResponseWriter<T> {
 			}
 		}
 	}
+
+	private WriterFactory getWriters() {
+
+		return writers != null ? writers : RestRouter.getWriters();
+	}
 }
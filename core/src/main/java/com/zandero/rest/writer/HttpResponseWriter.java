@@ -16,15 +16,21 @@ public interface HttpResponseWriter<T> {
 
 	void write(T result, HttpServerRequest request, HttpServerResponse response);
 
+	/**
+	 * Content-Type and static (@Header) headers are prepared per route and added before this call,
+	 * override to add or change writer specific headers
+	 *
+	 * @param definition route definition
+	 * @param response   to add headers to
+	 */
 	default void addResponseHeaders(RouteDefinition definition, HttpServerResponse response) {
 
 		if (!response.ended() &&
 			!response.headers().contains(HttpHeaders.CONTENT_TYPE)) {
 
-			if (definition.getProduces() != null) {
-				for (MediaType produces : definition.getProduces()) {
-					response.putHeader(HttpHeaders.CONTENT_TYPE, produces.toString());
-				}
+			if (definition.getProduces() != null && definition.getProduces().length > 0) {
+				// preferred media type (interned, header value is precomputed)
+				response.putHeader(HttpHeaders.CONTENT_TYPE, definition.getProduces()[0].toString());
 			}
 			else {
 				response.putHeader(HttpHeaders.CONTENT_TYPE, MediaType.WILDCARD);
@@ -14,9 +14,23 @@ import java.util.List;
 
 /**
  * Produces vert.x response based on JAX-RS response builder output
+ *
+ * Entity writers are looked up in the writer factory given (router registrations) or in globally registered writers if none given
  */
 public class JaxResponseWriter implements HttpResponseWriter<Response> {
 
+	private final WriterFactory writers;
+
+	public JaxResponseWriter() {
+
+		this(null);
+	}
+
+	public JaxResponseWriter(WriterFactory writers) {
+
+		this.writers = writers;
+	}
+
 	@Override
 	public void write(Response result, HttpServerRequest request, HttpServerResponse response) {
 
@@ -36,7 +50,7 @@ public class JaxResponseWriter implements HttpResponseWriter<Response> {
 
 				HttpResponseWriter writer;
 				try {
-					writer = RestRouter.getWriters().get(mediaType);
+					writer = getWriters().get(mediaType);
 				}
 				catch (ClassFactoryException e) {
 					writer = null;
@@ -55,6 +69,11 @@ public class JaxResponseWriter implements HttpResponseWriter<Response> {
 		//}
 	}
 
+	private WriterFactory getWriters() {
+
+		return writers != null ? writers : RestRouter.getWriters();
+	}
+
 	private static void addHeaders(Response jaxrsResponse, HttpServerResponse response) {
 
 		if (jaxrsResponse.getMetadata() != null) {
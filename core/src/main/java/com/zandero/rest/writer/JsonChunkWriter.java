@@ -0,0 +1,71 @@
+package com.zandero.rest.writer;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Writes items one by one as chunks of a JSON array or as new line delimited JSON (NDJSON)
+ * NDJSON is written in case response content type is application/x-ndjson
+ */
+class JsonChunkWriter {
+
+	static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+	private static final Buffer ARRAY_START = Buffer.buffer("[");
+
+	private static final Buffer ARRAY_END = Buffer.buffer("]");
+
+	private static final Buffer SEPARATOR = Buffer.buffer(",");
+
+	private static final Buffer NEW_LINE = Buffer.buffer("\n");
+
+	private final HttpServerResponse response;
+
+	private final boolean ndJson;
+
+	private boolean first = true;
+
+	JsonChunkWriter(HttpServerResponse response) {
+
+		this.response = response;
+
+		String contentType = response.headers().get(HttpHeaders.CONTENT_TYPE);
+		ndJson = contentType != null && contentType.startsWith(APPLICATION_NDJSON);
+	}
+
+	void begin() {
+
+		response.setChunked(true);
+
+		if (!ndJson) {
+			response.write(ARRAY_START);
+		}
+	}
+
+	void write(Object item) {
+
+		Buffer json = JsonResponseWriter.toJson(item);
+
+		if (ndJson) {
+			response.write(json.appendBuffer(NEW_LINE));
+			return;
+		}
+
+		if (!first) {
+			response.write(SEPARATOR);
+		}
+
+		first = false;
+		response.write(json);
+	}
+
+	void end() {
+
+		if (!ndJson) {
+			response.write(ARRAY_END);
+		}
+
+		response.end();
+	}
+}
@@ -0,0 +1,56 @@
+package com.zandero.rest.writer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+
+import java.io.IOException;
+
+/**
+ * Converts result into JSON object if not null
+ * result is serialized directly into response buffer (UTF-8 bytes), no intermediate String is produced
+ */
+public class JsonResponseWriter<T> implements HttpResponseWriter<T> {
+
+	/**
+	 * initial response buffer size, buffer grows as needed
+	 */
+	private static final int INITIAL_CAPACITY = 256;
+
+	@Override
+	public void write(T result, HttpServerRequest request, HttpServerResponse response) {
+
+		if (result != null) {
+
+			Buffer buffer = toJson(result);
+
+			if (!response.isChunked() && !response.headers().contains(HttpHeaders.CONTENT_LENGTH)) {
+				response.putHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(buffer.length()));
+			}
+
+			response.end(buffer);
+		}
+		else {
+			response.end();
+		}
+	}
+
+	static Buffer toJson(Object result) {
+
+		// vert.x buffers are not released ... so an unpooled buffer is used
+		ByteBuf byteBuf = Unpooled.buffer(INITIAL_CAPACITY);
+
+		try (ByteBufOutputStream stream = new ByteBufOutputStream(byteBuf)) {
+			io.vertx.core.json.Json.mapper.writeValue(stream, result);
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException("Failed to serialize " + result.getClass().getName() + " to JSON: " + e.getMessage(), e);
+		}
+
+		return Buffer.buffer(byteBuf);
+	}
+}
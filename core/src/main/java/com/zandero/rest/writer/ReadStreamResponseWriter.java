@@ -0,0 +1,87 @@
+package com.zandero.rest.writer;
+
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.streams.ReadStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Writes vert.x ReadStream items as they arrive as chunked JSON array (or NDJSON)
+ * read stream is paused while response write queue is full and resumed once drained
+ *
+ * When connection is closed (signaled through the response exception handler) the stream is detached from the response:
+ * an AsyncFile is closed, any other stream is drained (resumed and items discarded) so it reaches its end
+ */
+@SuppressWarnings("unchecked")
+public class ReadStreamResponseWriter implements StreamingResponseWriter<ReadStream> {
+
+	private final static Logger log = LoggerFactory.getLogger(ReadStreamResponseWriter.class);
+
+	@Override
+	public void write(ReadStream result, HttpServerRequest request, HttpServerResponse response) {
+
+		if (result == null) {
+			response.end();
+			return;
+		}
+
+		ReadStream<Object> stream = (ReadStream<Object>) result;
+		JsonChunkWriter writer = new JsonChunkWriter(response);
+
+		AtomicBoolean released = new AtomicBoolean();
+
+		// response close handler is left to the user
+		response.exceptionHandler(e -> release(stream, released));
+
+		writer.begin();
+
+		stream.exceptionHandler(e -> {
+			// response is already committed ... nothing left but to close the connection
+			log.error("Failed to write streamed response!", e);
+			response.close();
+		});
+
+		stream.endHandler(aVoid -> {
+			if (!response.closed()) {
+				writer.end();
+			}
+		});
+
+		stream.handler(item -> {
+
+			if (response.closed()) { // client is gone ... stop writing
+				release(stream, released);
+				return;
+			}
+
+			writer.write(item);
+
+			if (response.writeQueueFull()) {
+				stream.pause();
+				response.drainHandler(aVoid -> stream.resume());
+			}
+		});
+	}
+
+	/**
+	 * Detaches stream from closed response, so it is not left paused (and open) forever
+	 */
+	private static void release(ReadStream<?> stream, AtomicBoolean released) {
+
+		if (!released.compareAndSet(false, true)) {
+			return;
+		}
+
+		if (stream instanceof AsyncFile) {
+			((AsyncFile) stream).close();
+			return;
+		}
+
+		stream.handler(item -> {}); // drain ... items are discarded
+		stream.resume();
+	}
+}
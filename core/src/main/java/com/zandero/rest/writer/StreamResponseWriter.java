@@ -0,0 +1,218 @@
+package com.zandero.rest.writer;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Writes java.util.stream.Stream, Iterator or Iterable result item by item as chunked JSON array (or NDJSON)
+ * respecting response write queue (writing continues once queue is drained)
+ *
+ * Items of lazy results (Stream, Iterator, Iterable other than a Collection) might block while fetched (JDBC, file lines ...)
+ * so they are pulled in batches on a worker thread and written on the request's context.
+ *
+ * Stream is closed once written or when connection is closed.
+ * A closed connection is signaled through the response exception handler (the response close handler is left to the user).
+ */
+public class StreamResponseWriter implements StreamingResponseWriter<Object> {
+
+	private final static Logger log = LoggerFactory.getLogger(StreamResponseWriter.class);
+
+	/**
+	 * max number of items pulled at once
+	 */
+	static final int BATCH_SIZE = 64;
+
+	@Override
+	public void write(Object result, HttpServerRequest request, HttpServerResponse response) {
+
+		if (result == null) {
+			response.end();
+			return;
+		}
+
+		Iterator<?> iterator;
+		Runnable onClose = () -> {};
+
+		if (result instanceof Stream) {
+			Stream<?> stream = (Stream<?>) result;
+			iterator = stream.iterator();
+			onClose = stream::close;
+		} else if (result instanceof Iterator) {
+			iterator = (Iterator<?>) result;
+		} else if (result instanceof Iterable) {
+			iterator = ((Iterable<?>) result).iterator();
+		} else {
+			throw new IllegalArgumentException("Expected Stream, Iterator or Iterable result but got: " + result.getClass().getName());
+		}
+
+		Context context = Vertx.currentContext();
+		boolean inMemory = result instanceof Collection; // nothing to block on
+
+		new Pump(iterator, response, onClose, context, inMemory).start();
+	}
+
+	/**
+	 * Writes items until write queue is full and continues once drained
+	 */
+	private static class Pump {
+
+		private final Iterator<?> iterator;
+
+		private final HttpServerResponse response;
+
+		private final Runnable onClose;
+
+		private final JsonChunkWriter writer;
+
+		/**
+		 * request context or null if not called from a vert.x thread
+		 */
+		private final Context context;
+
+		/**
+		 * true to pull items on calling thread
+		 */
+		private final boolean inline;
+
+		private volatile boolean closed;
+
+		/**
+		 * true while batch is pulled on a worker thread (stream is not closed while in use)
+		 */
+		private boolean pulling;
+
+		private boolean released;
+
+		Pump(Iterator<?> items, HttpServerResponse httpResponse, Runnable close, Context vertxContext, boolean inMemory) {
+
+			iterator = items;
+			response = httpResponse;
+			onClose = close;
+			writer = new JsonChunkWriter(httpResponse);
+			context = vertxContext;
+			inline = inMemory || vertxContext == null;
+		}
+
+		void start() {
+
+			// called on closed connection ... drain will never come
+			response.exceptionHandler(e -> close());
+
+			writer.begin();
+			pull();
+		}
+
+		/**
+		 * Pulls next batch of items and writes it
+		 */
+		private void pull() {
+
+			if (inline) {
+				try {
+					while (write(next())) {
+						// continue until done or write queue is full
+					}
+				}
+				catch (Exception e) {
+					fail(e);
+				}
+
+				return;
+			}
+
+			pulling = true;
+			context.<List<Object>>executeBlocking(future -> future.complete(next()), false, result -> {
+
+				pulling = false;
+
+				if (result.failed()) {
+					fail(result.cause());
+					return;
+				}
+
+				try {
+					if (write(result.result())) {
+						pull();
+					}
+				}
+				catch (Exception e) {
+					fail(e);
+				}
+			});
+		}
+
+		private List<Object> next() {
+
+			List<Object> batch = new ArrayList<>(BATCH_SIZE);
+			while (!closed && batch.size() < BATCH_SIZE && iterator.hasNext()) {
+				batch.add(iterator.next());
+			}
+
+			return batch;
+		}
+
+		/**
+		 * @return true if next batch should be pulled right away, false if done or waiting for write queue to drain
+		 */
+		private boolean write(List<Object> batch) {
+
+			if (closed || response.closed()) { // client is gone
+				close();
+				return false;
+			}
+
+			for (Object item : batch) {
+				writer.write(item);
+			}
+
+			if (batch.size() < BATCH_SIZE) { // no more items
+				writer.end();
+				close();
+				return false;
+			}
+
+			if (response.writeQueueFull()) {
+				response.drainHandler(aVoid -> pull());
+				return false;
+			}
+
+			return true;
+		}
+
+		private void fail(Throwable e) {
+
+			// response is already committed ... nothing left but to close the connection
+			log.error("Failed to write streamed response!", e);
+			close();
+			response.close();
+		}
+
+		private void close() {
+
+			closed = true;
+
+			if (pulling || released) {
+				return; // released once pull is done
+			}
+
+			released = true;
+
+			try {
+				onClose.run();
+			}
+			catch (Exception e) {
+				log.warn("Failed to close stream!", e);
+			}
+		}
+	}
+}
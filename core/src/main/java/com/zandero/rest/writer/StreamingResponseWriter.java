@@ -0,0 +1,9 @@
+package com.zandero.rest.writer;
+
+/**
+ * Response writer writing response asynchronously (in chunks),
+ * writer is responsible to end the response once all content is written (response is not ended by RestRouter)
+ */
+public interface StreamingResponseWriter<T> extends HttpResponseWriter<T> {
+
+}
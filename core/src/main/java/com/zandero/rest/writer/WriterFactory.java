@@ -0,0 +1,121 @@
+package com.zandero.rest.writer;
+
+import com.zandero.rest.data.ClassFactory;
+import com.zandero.rest.data.RouteDefinition;
+import com.zandero.rest.exception.ClassFactoryException;
+import com.zandero.utils.Assert;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.streams.ReadStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Provides definition and caching of response writer implementations
+ */
+public class WriterFactory extends ClassFactory<HttpResponseWriter> {
+
+	private final static Logger log = LoggerFactory.getLogger(WriterFactory.class);
+
+	/**
+	 * writers delegating to other writers by media type ... bound to this factory
+	 */
+	private final GenericResponseWriter genericWriter = new GenericResponseWriter(this);
+
+	private final JaxResponseWriter jaxWriter = new JaxResponseWriter(this);
+
+	public WriterFactory() {
+
+		super();
+	}
+
+	@Override
+	protected void init() {
+
+		classType(Response.class, JaxResponseWriter.class);
+		classType(HttpServerResponse.class, VertxResponseWriter.class);
+
+		// chunked (streamed) responses
+		classType(Stream.class, StreamResponseWriter.class);
+		classType(Iterator.class, StreamResponseWriter.class);
+		classType(ReadStream.class, ReadStreamResponseWriter.class);
+
+		mediaType(MediaType.APPLICATION_JSON, JsonResponseWriter.class);
+		mediaType(MediaType.TEXT_PLAIN, GenericResponseWriter.class);
+	}
+
+	/**
+	 * Finds assigned response writer or tries to assign a writer according to produces annotation and result type
+	 *
+	 * @param returnType type of result
+	 * @param definition method definition
+	 * @return writer to be used to produce response, or {@link GenericResponseWriter} in case no suitable writer could be found
+	 */
+	public HttpResponseWriter getResponseWriter(Class<?> returnType, RouteDefinition definition) {
+
+		try {
+			HttpResponseWriter writer = get(returnType, definition.getWriter(), definition.getProduces());
+			return writer != null ? writer : genericWriter;
+		} catch (ClassFactoryException e) {
+			log.error("Failed to provide response writer: " + returnType + ", for: " + definition + ", falling back to GenericResponseWriter() instead!");
+			return genericWriter;
+		}
+	}
+
+	/**
+	 * Finds assigned response writer or tries to assign a writer according to given media type and result type
+	 *
+	 * @param returnType type of result
+	 * @param definition method definition
+	 * @param mediaType  produced media type (one of definition produces)
+	 * @return writer to be used to produce response of given media type, or {@link GenericResponseWriter} in case no suitable writer could be found
+	 */
+	public HttpResponseWriter getResponseWriter(Class<?> returnType, RouteDefinition definition, MediaType mediaType) {
+
+		Assert.notNull(mediaType, "Missing media type!");
+
+		try {
+			HttpResponseWriter writer = get(returnType, definition.getWriter(), new MediaType[]{mediaType});
+			return writer != null ? writer : genericWriter;
+		} catch (ClassFactoryException e) {
+			log.error("Failed to provide response writer: " + returnType + ", for: " + definition + ", falling back to GenericResponseWriter() instead!");
+			return genericWriter;
+		}
+	}
+
+	@Override
+	protected HttpResponseWriter getClassInstance(Class<? extends HttpResponseWriter> clazz) throws ClassFactoryException {
+
+		if (GenericResponseWriter.class.equals(clazz)) {
+			return genericWriter;
+		}
+
+		if (JaxResponseWriter.class.equals(clazz)) {
+			return jaxWriter;
+		}
+
+		return super.getClassInstance(clazz);
+	}
+
+	public void register(Class<?> aClass, Class<? extends HttpResponseWriter> clazz) {
+
+		Assert.notNull(aClass, "Missing response class!");
+		Assert.notNull(clazz, "Missing response writer type class");
+
+		super.register(aClass, clazz);
+	}
+
+	public void register(String mediaType, Class<? extends HttpResponseWriter> clazz) {
+
+		super.register(mediaType, clazz);
+	}
+
+	public void register(MediaType mediaType, Class<? extends HttpResponseWriter> clazz) {
+
+		super.register(mediaType, clazz);
+	}
+}
@@ -0,0 +1,39 @@
+package com.zandero.rest;
+
+import com.zandero.utils.Assert;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executes tasks on virtual threads (Java 21 implementation of multi-release jar)
+ */
+final class VirtualThreads {
+
+	private static final ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+	                                                                                         .name("rest.vertx-virtual-", 0)
+	                                                                                         .factory());
+
+	private VirtualThreads() {
+		// hide constructor
+	}
+
+	/**
+	 * @return true if running JDK supports virtual threads
+	 */
+	static boolean isSupported() {
+
+		return true;
+	}
+
+	/**
+	 * Executes task on a new virtual thread
+	 *
+	 * @param task to execute
+	 */
+	static void execute(Runnable task) {
+
+		Assert.notNull(task, "Missing task!");
+		executor.execute(task);
+	}
+}
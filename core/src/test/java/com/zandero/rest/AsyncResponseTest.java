@@ -0,0 +1,108 @@
+package com.zandero.rest;
+
+import com.zandero.rest.test.TestAsyncRest;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.ext.web.Router;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ *
+ */
+@RunWith(VertxUnitRunner.class)
+public class AsyncResponseTest extends VertxTest {
+
+	@Before
+	public void start(TestContext context) {
+
+		super.before(context);
+
+		Router router = RestRouter.register(vertx, TestAsyncRest.class);
+		vertx.createHttpServer()
+			.requestHandler(router::accept)
+			.listen(PORT);
+	}
+
+	@Test
+	public void futureTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/async/future", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.bodyHandler(body -> {
+				context.assertEquals("{\"name\":\"future\",\"value\":\"done\"}", body.toString());
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void failedFutureTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/async/fail", response -> {
+
+			context.assertEquals(400, response.statusCode());
+
+			response.bodyHandler(body -> {
+				context.assertEquals("Failed future!", body.toString());
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void completionStageTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/async/completion", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.bodyHandler(body -> {
+				context.assertEquals("completed", body.toString());
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void singleTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/async/single", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.bodyHandler(body -> {
+				context.assertEquals("single", body.toString());
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void observableTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/async/observable", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.bodyHandler(body -> {
+				context.assertEquals("[1,2,3]", body.toString());
+				async.complete();
+			});
+		});
+	}
+}
@@ -0,0 +1,172 @@
+package com.zandero.rest;
+
+import com.zandero.rest.test.TestBlockingRest;
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Future;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.ext.web.Router;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ *
+ */
+@RunWith(VertxUnitRunner.class)
+public class BlockingHandlerTest extends VertxTest {
+
+	@Before
+	public void start(TestContext context) {
+
+		super.before(context);
+
+		Router router = RestRouter.register(vertx, TestBlockingRest.class);
+
+		vertx.createHttpServer()
+		     .requestHandler(router::accept)
+		     .listen(PORT);
+	}
+
+	@Test
+	public void namedPoolTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/blocking/pool?wait=0", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertTrue(body.toString().startsWith("test-pool"), body.toString());
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void queueFullTest(TestContext context) {
+
+		queueFull(context, "/blocking/pool?wait=500", "/blocking/pool?wait=500");
+	}
+
+	@Test
+	public void queuePerPoolTest(TestContext context) {
+
+		// routes with same named pool share queue limit
+		queueFull(context, "/blocking/pool?wait=500", "/blocking/pool2?wait=500");
+	}
+
+	@Test
+	public void queuePerWorkerPoolTest(TestContext context) {
+
+		// routes with vert.x worker pool share queue limit
+		queueFull(context, "/blocking/limited?wait=500", "/blocking/limited2?wait=500");
+	}
+
+	/**
+	 * Calls given paths at once, one call is expected to be rejected (max queue 1)
+	 */
+	private void queueFull(TestContext context, String... paths) {
+
+		final Async async = context.async(paths.length);
+		ConcurrentMap<Integer, Integer> statuses = new ConcurrentHashMap<>();
+
+		for (String path : paths) {
+			client.getNow(path, response -> {
+
+				statuses.merge(response.statusCode(), 1, Integer::sum);
+				if (statuses.values().stream().mapToInt(Integer::intValue).sum() == paths.length) {
+					context.assertEquals(paths.length - 1, statuses.get(200));
+					context.assertEquals(1, statuses.get(503));
+				}
+
+				async.countDown();
+			});
+		}
+	}
+
+	@Test
+	public void poolAfterUndeployTest(TestContext context) {
+
+		final Async async = context.async();
+
+		// verticle serving same routes ... uses (and closes) named pool in its own context
+		AbstractVerticle verticle = new AbstractVerticle() {
+			@Override
+			public void start(Future<Void> started) {
+
+				Router router = RestRouter.register(vertx, TestBlockingRest.class);
+				vertx.createHttpServer()
+				     .requestHandler(router::accept)
+				     .listen(PORT + 1, server -> started.complete());
+			}
+		};
+
+		vertx.deployVerticle(verticle, context.asyncAssertSuccess(id -> {
+
+			client.getNow(PORT + 1, "localhost", "/blocking/pool?wait=0", first -> {
+
+				context.assertEquals(200, first.statusCode());
+
+				vertx.undeploy(id, context.asyncAssertSuccess(undeployed -> {
+
+					// pool is still usable from other contexts
+					client.getNow("/blocking/pool?wait=0", second -> {
+
+						context.assertEquals(200, second.statusCode());
+						async.complete();
+					});
+				}));
+			});
+		}));
+	}
+
+	@Test
+	public void unorderedTest(TestContext context) {
+
+		final Async async = context.async(2);
+		long start = System.currentTimeMillis();
+
+		for (int index = 0; index < 2; index++) {
+			client.getNow("/blocking/unordered?wait=500", response -> {
+
+				context.assertEquals(200, response.statusCode());
+				context.assertTrue(System.currentTimeMillis() - start < 1000, "Calls were executed one after another");
+				async.countDown();
+			});
+		}
+	}
+
+	@Test
+	public void virtualThreadTest(TestContext context) {
+
+		final Async async = context.async(2);
+		long start = System.currentTimeMillis();
+
+		// tests run from target/classes (not the multi-release jar) ... worker pool fallback is used,
+		// virtual threads are tested against the packaged jar in VirtualThreadIT (java21 profile)
+		for (int index = 0; index < 2; index++) {
+			client.getNow("/blocking/virtual?wait=500", response -> {
+
+				context.assertEquals(200, response.statusCode());
+				context.assertTrue(System.currentTimeMillis() - start < 1000, "Calls were executed one after another");
+
+				response.handler(body -> {
+					context.assertEquals("done", body.toString());
+					async.countDown();
+				});
+			});
+		}
+	}
+
+	@Test
+	public void virtualQueueFullTest(TestContext context) {
+
+		queueFull(context, "/blocking/virtual-limited?wait=500", "/blocking/virtual-limited?wait=500");
+	}
+}
@@ -0,0 +1,93 @@
+package com.zandero.rest;
+
+import com.zandero.rest.test.TestProducesRest;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.ext.web.Router;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ *
+ */
+@RunWith(VertxUnitRunner.class)
+public class ContentNegotiationTest extends VertxTest {
+
+	@Before
+	public void start(TestContext context) {
+
+		super.before(context);
+
+		Router router = RestRouter.register(vertx, TestProducesRest.class);
+
+		vertx.createHttpServer()
+		     .requestHandler(router::accept)
+		     .listen(PORT);
+	}
+
+	private void assertResponse(TestContext context, String accept, String contentType, String content) {
+
+		final Async async = context.async();
+
+		client.get("/produces/hello", response -> {
+
+			context.assertEquals(200, response.statusCode());
+			context.assertEquals(contentType, response.getHeader("Content-Type"));
+
+			response.handler(body -> {
+				context.assertEquals(content, body.toString());
+				async.complete();
+			});
+		}).putHeader("Accept", accept).end();
+	}
+
+	@Test
+	public void staticHeadersTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.get("/produces/hello", response -> {
+
+			context.assertEquals(200, response.statusCode());
+			context.assertEquals("no-cache", response.getHeader("Cache-Control"));
+			context.assertEquals("Accept", response.getHeader("Vary"));
+			async.complete();
+		}).end();
+	}
+
+	@Test
+	public void overriddenHeadersTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.get("/produces/cached", response -> {
+
+			context.assertEquals(200, response.statusCode());
+			context.assertEquals("text/plain", response.getHeader("Content-Type"));
+			context.assertEquals("max-age=60", response.getHeader("Cache-Control"));
+			context.assertEquals("custom", response.getHeader("X-Custom"));
+			context.assertNull(response.getHeader("Vary"));
+			async.complete();
+		}).end();
+	}
+
+	@Test
+	public void preferredTypeTest(TestContext context) {
+
+		assertResponse(context, "*/*", "application/json", "\"hello\"");
+	}
+
+	@Test
+	public void acceptedTypeTest(TestContext context) {
+
+		assertResponse(context, "text/plain", "text/plain", "hello");
+	}
+
+	@Test
+	public void qualityTest(TestContext context) {
+
+		assertResponse(context, "application/json;q=0.5, text/*;q=0.9", "text/plain", "hello");
+	}
+}
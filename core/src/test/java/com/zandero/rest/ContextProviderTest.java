@@ -0,0 +1,73 @@
+package com.zandero.rest;
+
+import com.zandero.rest.test.TestContextRest;
+import com.zandero.rest.test.json.Dummy;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.ext.web.Router;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ *
+ */
+@RunWith(VertxUnitRunner.class)
+public class ContextProviderTest extends VertxTest {
+
+	@Test
+	public void registeredProviderTest(TestContext context) {
+
+		Router router = new RestBuilder(vertx)
+			                .context(Dummy.class, routingContext -> new Dummy("tenant", routingContext.request().getHeader("X-Tenant")))
+			                .register(TestContextRest.class)
+			                .build();
+
+		vertx.createHttpServer()
+		     .requestHandler(router::accept)
+		     .listen(PORT);
+
+		final Async async = context.async();
+
+		client.get("/context/custom", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("{\"name\":\"tenant\",\"value\":\"acme\"}", body.toString());
+				async.complete();
+			});
+		}).putHeader("X-Tenant", "acme").end();
+	}
+
+	@Test
+	public void typedPushTest(TestContext context) {
+
+		Router router = Router.router(vertx);
+		router.route().handler(routingContext -> {
+
+			// pushed under given type only ... last push wins
+			RestRouter.pushContext(routingContext, Dummy.class, new Dummy("first", "push"));
+			RestRouter.pushContext(routingContext, Dummy.class, new Dummy("second", "push"));
+			routingContext.next();
+		});
+
+		RestRouter.register(router, TestContextRest.class);
+
+		vertx.createHttpServer()
+		     .requestHandler(router::accept)
+		     .listen(PORT);
+
+		final Async async = context.async();
+
+		client.getNow("/context/custom", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("{\"name\":\"second\",\"value\":\"push\"}", body.toString());
+				async.complete();
+			});
+		});
+	}
+}
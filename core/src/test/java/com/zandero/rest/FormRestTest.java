@@ -0,0 +1,208 @@
+package com.zandero.rest;
+
+import com.zandero.rest.test.TestFormRest;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.handler.CookieHandler;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ *
+ */
+@RunWith(VertxUnitRunner.class)
+public class FormRestTest extends VertxTest {
+
+	@Before
+	public void start(TestContext context) {
+
+		super.before(context);
+
+		TestFormRest testRest = new TestFormRest();
+
+		Router router = RestRouter.register(vertx, testRest);
+
+		vertx.createHttpServer()
+			.requestHandler(router::accept)
+			.listen(PORT);
+	}
+
+	@Test
+	public void loginFormTest(TestContext context) {
+
+		// call and check response
+		final Async async = context.async();
+
+		String content = "username=value&password=another";
+
+		client.post("/form/login", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("value:another", body.toString());
+				async.complete();
+			});
+		}).putHeader("content-type", "application/x-www-form-urlencoded")
+			.end(content);
+	}
+
+	@Test
+	public void multipartFormTest(TestContext context) {
+
+		// call and check response
+		final Async async = context.async();
+
+		String content = "username=value&password=another";
+
+		client.post("/form/login", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("value:another", body.toString());
+				async.complete();
+			});
+		}).putHeader("content-type", "multipart/form-data")
+			.end(content);
+	}
+
+	@Test
+	public void sendCookieTest(TestContext context) {
+
+		// call and check response
+		final Async async = context.async();
+
+		client.post("/form/cookie", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("blabla", body.toString());
+				async.complete();
+			});
+		}).putHeader("Cookie", "username=blabla").end();
+	}
+
+	@Test
+	public void getCookiesTest(TestContext context) {
+
+		// call and check response
+		final Async async = context.async();
+
+		client.get("/form/cookie", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("blabla:1234", body.toString());
+				async.complete();
+			});
+		}).putHeader("Cookie", "username=blabla; session=1234").end();
+	}
+
+	@Test
+	public void bodyWithinLimitTest(TestContext context) {
+
+		// call and check response
+		final Async async = context.async();
+
+		client.post("/form/limited", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("value", body.toString());
+				async.complete();
+			});
+		}).putHeader("content-type", "application/x-www-form-urlencoded")
+			.end("username=value");
+	}
+
+	@Test
+	public void bodyOverLimitTest(TestContext context) {
+
+		// call and check response
+		final Async async = context.async();
+
+		client.post("/form/limited", response -> {
+
+			context.assertEquals(413, response.statusCode());
+			async.complete();
+		}).putHeader("content-type", "application/x-www-form-urlencoded")
+			.end("username=some_very_long_user_name");
+	}
+
+	@Test
+	public void multipartUploadTest(TestContext context) {
+
+		// call and check response
+		final Async async = context.async();
+
+		String content = "--AaB03x\r\n" +
+		                 "Content-Disposition: form-data; name=\"username\"\r\n" +
+		                 "\r\n" +
+		                 "value\r\n" +
+		                 "--AaB03x\r\n" +
+		                 "Content-Disposition: form-data; name=\"file\"; filename=\"test.txt\"\r\n" +
+		                 "Content-Type: text/plain\r\n" +
+		                 "\r\n" +
+		                 "Hello upload\r\n" +
+		                 "--AaB03x--\r\n";
+
+		client.post("/form/upload", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.bodyHandler(body -> {
+				context.assertEquals("value:file:test.txt:12:Hello upload", body.toString());
+				async.complete();
+			});
+		}).putHeader("content-type", "multipart/form-data; boundary=AaB03x")
+			.end(content);
+	}
+
+	@Test
+	public void setCookieTest(TestContext context) {
+
+		// call and check response
+		final Async async = context.async();
+
+		client.getNow("/form/set-cookie?value=1234", response -> {
+
+			context.assertEquals(200, response.statusCode());
+			context.assertEquals(1, response.cookies().size());
+			context.assertEquals("session=1234", response.cookies().get(0));
+			async.complete();
+		});
+	}
+
+	@Test
+	public void setCookieWithCookieHandlerTest(TestContext context) {
+
+		// cookie handler mounted by user ... cookie must not be written twice
+		Router router = Router.router(vertx);
+		router.route().handler(CookieHandler.create());
+		RestRouter.register(router, new TestFormRest());
+
+		final Async async = context.async();
+
+		vertx.createHttpServer()
+			.requestHandler(router::accept)
+			.listen(PORT + 1, server -> {
+
+				context.assertTrue(server.succeeded());
+
+				client.getNow(PORT + 1, "localhost", "/form/set-cookie?value=1234", response -> {
+
+					context.assertEquals(200, response.statusCode());
+					context.assertEquals(1, response.cookies().size());
+					context.assertEquals("session=1234", response.cookies().get(0));
+					async.complete();
+				});
+			});
+	}
+}
@@ -1,5 +1,6 @@
 package com.zandero.rest;
 
+import com.zandero.rest.exception.StacklessException;
 import com.zandero.rest.test.ErrorThrowingRest;
 import com.zandero.rest.test.ErrorThrowingRest2;
 import com.zandero.rest.test.handler.IllegalArgumentExceptionHandler;
@@ -157,4 +158,23 @@ public class GlobalErrorHandlerTest extends VertxTest {
 			});
 		});
 	}
+
+	@Test
+	public void throwStacklessExceptionTest(TestContext context) {
+
+		context.assertEquals(0, new StacklessException("Bang!").getStackTrace().length);
+
+		// call and check response
+		final Async async = context.async();
+
+		client.getNow("/throw/missing", response -> {
+
+			context.assertEquals(404, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("Not here!", body.toString()); // Generic exception writer
+				async.complete();
+			});
+		});
+	}
 }
@@ -0,0 +1,134 @@
+package com.zandero.rest;
+
+import com.zandero.rest.test.TestHtmlRest;
+import com.zandero.rest.test.writer.TestCustomWriter;
+import com.zandero.rest.test.writer.TestHtmlWriter;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.ext.web.Router;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.ws.rs.core.MediaType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *
+ */
+@RunWith(VertxUnitRunner.class)
+public class RestBuilderTest extends VertxTest {
+
+	@Test
+	public void testOwnRegistries(TestContext context) {
+
+		// router with own writer
+		Router custom = new RestBuilder(vertx)
+			                .writer(MediaType.TEXT_HTML, TestCustomWriter.class)
+			                .register(TestHtmlRest.class)
+			                .build();
+
+		// same API with default (static) registries
+		Router plain = RestRouter.register(vertx, TestHtmlRest.class);
+
+		vertx.createHttpServer()
+			.requestHandler(custom::accept)
+			.listen(PORT);
+
+		vertx.createHttpServer()
+			.requestHandler(plain::accept)
+			.listen(PORT + 1);
+
+		final Async async = context.async(2);
+
+		client.getNow("/html/body", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("<custom>body</custom>", body.toString());
+				async.countDown();
+			});
+		});
+
+		client.getNow(PORT + 1, "localhost", "/html/body", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("body", body.toString());
+				async.countDown();
+			});
+		});
+	}
+
+	@Test
+	public void testOwnRegistriesResponseEntity(TestContext context) {
+
+		// JAX-RS response entity is written with router's own writer
+		Router custom = new RestBuilder(vertx)
+			                .writer(MediaType.TEXT_HTML, TestCustomWriter.class)
+			                .register(TestHtmlRest.class)
+			                .build();
+
+		// static registration must not be picked up by router with own writers
+		RestRouter.getWriters().register(MediaType.TEXT_HTML, TestHtmlWriter.class);
+		Router plain = new RestBuilder(vertx)
+			               .register(TestHtmlRest.class)
+			               .build();
+
+		vertx.createHttpServer()
+			.requestHandler(custom::accept)
+			.listen(PORT);
+
+		vertx.createHttpServer()
+			.requestHandler(plain::accept)
+			.listen(PORT + 1);
+
+		final Async async = context.async(2);
+
+		client.getNow("/html/response", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("<custom>response</custom>", body.toString());
+				async.countDown();
+			});
+		});
+
+		client.getNow(PORT + 1, "localhost", "/html/response", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("response", body.toString());
+				async.countDown();
+			});
+		});
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testAuthorizationCacheAfterBuild() {
+
+		RestBuilder builder = new RestBuilder(vertx).register(TestHtmlRest.class);
+		builder.build();
+
+		builder.authorizationCache(1, TimeUnit.MINUTES);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFrozenAfterBuild() {
+
+		RestBuilder builder = new RestBuilder(vertx).register(TestHtmlRest.class);
+		builder.build();
+
+		builder.writer(MediaType.TEXT_HTML, TestCustomWriter.class);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMissingApi() {
+
+		new RestBuilder(vertx).build();
+	}
+}
@@ -15,6 +15,8 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
@@ -166,6 +168,26 @@ public class RestRouterTest extends VertxTest {
 		//	async.complete();
 	}
 
+	@Test
+	public void testJsonNonAsciiResponse(TestContext context) throws IOException {
+
+		final Async async = context.async();
+
+		String json = JsonUtils.toJson(new Dummy("čšž", "€ 😀"));
+		byte[] expected = "{\"name\":\"Received-čšž\",\"value\":\"Received-€ 😀\"}".getBytes(StandardCharsets.UTF_8);
+
+		client.post("/test/json/post", response -> {
+
+			context.assertEquals(200, response.statusCode());
+			context.assertEquals(Integer.toString(expected.length), response.getHeader("Content-Length")); // bytes, not characters
+
+			response.bodyHandler(body -> {
+				context.assertTrue(Arrays.equals(expected, body.getBytes()));
+				async.complete();
+			});
+		}).putHeader("Content-Type", "application/json").end(json, "UTF-8");
+	}
+
 	@Test
 	public void contextTest(TestContext context) {
 
@@ -1,6 +1,7 @@
 package com.zandero.rest;
 
 import com.zandero.rest.test.TestAuthorizationRest;
+import com.zandero.rest.test.data.RolesUser;
 import com.zandero.rest.test.data.SimulatedUser;
 import io.vertx.core.Handler;
 import io.vertx.ext.unit.Async;
@@ -12,6 +13,9 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import javax.ws.rs.Path;
+import java.util.Arrays;
+
 /**
  *
  */
@@ -45,7 +49,9 @@ public class RouteAuthorizationTest extends VertxTest {
 			String token = context.request().getHeader("X-Token");
 
 			// set user ...
-			if (token != null) {
+			if (token != null && token.contains(",")) {
+				context.setUser(new RolesUser(token.split(",")));
+			} else if (token != null) {
 				context.setUser(new SimulatedUser(token));
 			}
 
@@ -197,4 +203,47 @@ public class RouteAuthorizationTest extends VertxTest {
 			});
 		}).putHeader("X-Token", "two").end();
 	}
+
+	@Test
+	public void testGetBothUnAuthorized(TestContext context) {
+
+		// call and check response
+		final Async async = context.async();
+
+		client.get("/private/both", response -> {
+
+			context.assertEquals(401, response.statusCode());
+			async.complete();
+		}).putHeader("X-Token", "one").end();
+	}
+
+	@Test
+	public void testGetBothAuthorized(TestContext context) {
+
+		// call and check response
+		final Async async = context.async();
+
+		client.get("/private/both", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("both", body.toString());
+				async.complete();
+			});
+		}).putHeader("X-Token", "two,one").end();
+	}
+
+	@Test
+	public void testSingleRoutePerMethod(TestContext context) {
+
+		// security check is part of the route handler ... no additional route is registered
+		Router router = RestRouter.register(vertx, TestAuthorizationRest.class);
+		long endpoints = Arrays.stream(TestAuthorizationRest.class.getMethods())
+		                       .filter(method -> method.isAnnotationPresent(Path.class))
+		                       .count();
+
+		context.assertTrue(endpoints > 0);
+		context.assertEquals((int) endpoints, router.getRoutes().size());
+	}
 }
@@ -0,0 +1,212 @@
+package com.zandero.rest;
+
+import com.zandero.rest.data.RouteBinder;
+import com.zandero.rest.processor.RouteBinderProcessor;
+import com.zandero.rest.test.TestRest;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.ext.web.Router;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.tools.*;
+import javax.ws.rs.Path;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.StringJoiner;
+
+/**
+ * Compiles a REST API with the route binder processor and registers it with the generated binder
+ */
+@RunWith(VertxUnitRunner.class)
+public class RouteBinderTest extends VertxTest {
+
+	private static final String API = "com.zandero.rest.generated.BinderRest";
+
+	private static final String SOURCE = "package com.zandero.rest.generated;\n" +
+	                                     "\n" +
+	                                     "import javax.ws.rs.*;\n" +
+	                                     "\n" +
+	                                     "@Path(\"/binder\")\n" +
+	                                     "public class BinderRest extends BinderBase {\n" +
+	                                     "\n" +
+	                                     "	@GET\n" +
+	                                     "	@Path(\"/echo\")\n" +
+	                                     "	public String echo(@QueryParam(\"value\") String value) {\n" +
+	                                     "		return \"bound \" + value;\n" +
+	                                     "	}\n" +
+	                                     "\n" +
+	                                     "	@GET\n" +
+	                                     "	@Path(\"/sum/{one}/{two}\")\n" +
+	                                     "	public int sum(@PathParam(\"one\") int one, @PathParam(\"two\") int two) {\n" +
+	                                     "		return one + two;\n" +
+	                                     "	}\n" +
+	                                     "\n" +
+	                                     "	public static class Nested {\n" +
+	                                     "\n" +
+	                                     "		@POST\n" +
+	                                     "		@Path(\"/nested\")\n" +
+	                                     "		public void nested() {\n" +
+	                                     "		}\n" +
+	                                     "	}\n" +
+	                                     "}\n" +
+	                                     "\n" +
+	                                     "abstract class BinderBase {\n" +
+	                                     "\n" +
+	                                     "	@GET\n" +
+	                                     "	@Path(\"/inherited\")\n" +
+	                                     "	public String inherited() {\n" +
+	                                     "		return \"inherited\";\n" +
+	                                     "	}\n" +
+	                                     "}\n";
+
+	private Class<?> api;
+
+	@Before
+	public void start(TestContext context) throws IOException, ClassNotFoundException {
+
+		super.before(context);
+
+		api = compile(API, SOURCE);
+
+		Router router = RestRouter.register(vertx, api);
+
+		vertx.createHttpServer()
+		     .requestHandler(router::accept)
+		     .listen(PORT);
+	}
+
+	/**
+	 * Compiles given source with route binder processor and loads compiled class
+	 */
+	private static Class<?> compile(String className, String source) throws IOException, ClassNotFoundException {
+
+		File output = Files.createTempDirectory("binder").toFile();
+
+		JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+			@Override
+			public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+
+				return source;
+			}
+		};
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+		JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+		                                                     Arrays.asList("-d", output.getAbsolutePath(),
+		                                                                   "-classpath", getClassPath(Path.class, RouteBinder.class, HttpMethod.class, Router.class)),
+		                                                     null,
+		                                                     Collections.singletonList(file));
+
+		task.setProcessors(Collections.singletonList(new RouteBinderProcessor()));
+
+		if (!task.call()) {
+			throw new IllegalStateException("Compilation failed: " + diagnostics.getDiagnostics());
+		}
+
+		ClassLoader loader = new URLClassLoader(new URL[]{output.toURI().toURL()}, RouteBinderTest.class.getClassLoader());
+		return Class.forName(className, true, loader);
+	}
+
+	/**
+	 * class path of test run might be hidden in a manifest only jar (surefire) ... add locations of required classes
+	 */
+	private static String getClassPath(Class<?>... classes) {
+
+		StringJoiner path = new StringJoiner(File.pathSeparator);
+		path.add(System.getProperty("java.class.path"));
+
+		for (Class<?> clazz : classes) {
+			try {
+				path.add(new File(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()).getAbsolutePath());
+			}
+			catch (URISyntaxException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		return path.toString();
+	}
+
+	@Test
+	public void binderLookupTest(TestContext context) throws ClassNotFoundException {
+
+		RouteBinder binder = AnnotationProcessor.getBinder(api);
+		context.assertNotNull(binder);
+		context.assertEquals(API + "_RouteBinder", binder.getClass().getName());
+		context.assertEquals(api, binder.getApiClass());
+
+		// nested classes are joined with _
+		Class<?> nested = Class.forName(API + "$Nested", true, api.getClassLoader());
+		RouteBinder nestedBinder = AnnotationProcessor.getBinder(nested);
+		context.assertNotNull(nestedBinder);
+		context.assertEquals(API + "_Nested_RouteBinder", nestedBinder.getClass().getName());
+
+		// not generated ... reflection is used
+		context.assertNull(AnnotationProcessor.getBinder(TestRest.class));
+	}
+
+	@Test
+	public void boundRouteTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/binder/echo?value=hello", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("bound hello", body.toString());
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void boundInheritedRouteTest(TestContext context) throws ReflectiveOperationException {
+
+		// route method inherited from parent class is bound by generated binder too
+		RouteBinder binder = AnnotationProcessor.getBinder(api);
+		context.assertEquals(3, binder.bind(api.getDeclaredConstructor().newInstance()).size());
+
+		final Async async = context.async();
+
+		client.getNow("/binder/inherited", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("inherited", body.toString());
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void boundPathParamTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/binder/sum/1/2", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("3", body.toString());
+				async.complete();
+			});
+		});
+	}
+}
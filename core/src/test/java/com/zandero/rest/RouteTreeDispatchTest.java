@@ -0,0 +1,151 @@
+package com.zandero.rest;
+
+import com.zandero.rest.test.TestMixedTreeRest;
+import com.zandero.rest.test.TestPathRest;
+import com.zandero.rest.test.TestProducesRest;
+import com.zandero.rest.test.TestRegExRest;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.ext.web.Router;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ *
+ */
+@RunWith(VertxUnitRunner.class)
+public class RouteTreeDispatchTest extends VertxTest {
+
+	@Before
+	public void start(TestContext context) {
+
+		super.before(context);
+
+		Router router = new RestBuilder(vertx)
+			                .routeTree()
+			                .register(TestProducesRest.class, TestRegExRest.class, TestPathRest.class, TestMixedTreeRest.class)
+			                .build();
+
+		vertx.createHttpServer()
+		     .requestHandler(router::accept)
+		     .listen(PORT);
+	}
+
+	@Test
+	public void staticPathTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.get("/produces/hello", response -> {
+
+			context.assertEquals(200, response.statusCode());
+			context.assertEquals("text/plain", response.getHeader("Content-Type"));
+
+			response.handler(body -> {
+				context.assertEquals("hello", body.toString());
+				async.complete();
+			});
+		}).putHeader("Accept", "text/plain").end();
+	}
+
+	@Test
+	public void pathParamTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/this/echo/query%20me", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("thisquery me", body.toString());
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void methodNotAllowedTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.post("/produces/hello", response -> {
+
+			context.assertEquals(405, response.statusCode());
+			context.assertEquals("GET", response.getHeader("Allow"));
+			async.complete();
+		}).end();
+	}
+
+	@Test
+	public void notFoundTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/this/echo", response -> {
+
+			context.assertEquals(404, response.statusCode());
+			async.complete();
+		});
+	}
+
+	@Test
+	public void regExRouteTest(TestContext context) {
+
+		final Async async = context.async();
+
+		// regular expression routes are bound as vert.x routes
+		client.getNow("/regEx/123", response -> {
+
+			context.assertEquals(200, response.statusCode());
+			async.complete();
+		});
+	}
+
+	@Test
+	public void treeBeforeRegExRouteTest(TestContext context) {
+
+		final Async async = context.async(2);
+
+		// tree is ordered before regular expression route (matching both)
+		client.getNow("/mixed/tree", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("tree", body.toString());
+				async.countDown();
+			});
+		});
+
+		// not bound to tree ... passed on to regular expression route
+		client.getNow("/mixed/other", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("regEx other", body.toString());
+				async.countDown();
+			});
+		});
+	}
+
+	@Test
+	public void regExBeforeTreeRouteTest(TestContext context) {
+
+		final Async async = context.async();
+
+		// regular expression route is ordered before tree
+		client.getNow("/mixed/first", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("regEx first first", body.toString());
+				async.complete();
+			});
+		});
+	}
+}
@@ -1,6 +1,7 @@
 package com.zandero.rest;
 
 import com.zandero.rest.test.TestContextRest;
+import com.zandero.rest.test.data.IntegerHolder;
 import com.zandero.rest.test.json.Dummy;
 import io.vertx.core.Handler;
 import io.vertx.ext.unit.Async;
@@ -38,6 +39,7 @@ public class RouteWithContextTest extends VertxTest {
 
 		return context -> {
 			RestRouter.pushContext(context, new Dummy("test", "user"));
+			context.put("holder", new IntegerHolder(42)); // put under own key (not pushed)
 			context.next();
 		};
 	}
@@ -93,6 +95,40 @@ public class RouteWithContextTest extends VertxTest {
 		});
 	}
 
+	@Test
+	public void missingUserContextTest(TestContext context) {
+
+		// vert.x provided context is null if not present
+		final Async async = context.async();
+
+		client.getNow("/context/user", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("anonymous", body.toString());
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void contextDataTest(TestContext context) {
+
+		// object put into routing context under any key
+		final Async async = context.async();
+
+		client.getNow("/context/data", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("42", body.toString());
+				async.complete();
+			});
+		});
+	}
+
 	@Test
 	public void pushContextTest(TestContext context) {
 
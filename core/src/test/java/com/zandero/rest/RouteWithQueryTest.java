@@ -94,4 +94,68 @@ public class RouteWithQueryTest extends VertxTest {
 			});
 		});
 	}
+
+	@Test
+	public void multiValueListTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/query/sum?value=1&value=2&value=3", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("6", body.toString());
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void multiValueMissingTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/query/sum", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("0", body.toString());
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void multiValueSetTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/query/distinct?name=b&name=a&name=b", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("b,a", body.toString());
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void multiValueTypeMismatchTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/query/sum?value=1&value=A", response -> {
+
+			context.assertEquals(400, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("Invalid parameter type for: @QueryParam(\"value\") for: /query/sum, expected: java.lang.Integer, but got: A", body.toString());
+				async.complete();
+			});
+		});
+	}
 }
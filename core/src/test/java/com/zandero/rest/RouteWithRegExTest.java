@@ -1,5 +1,6 @@
 package com.zandero.rest;
 
+import com.zandero.rest.test.TestRegExGroupRest;
 import com.zandero.rest.test.TestRegExRest;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
@@ -21,7 +22,7 @@ public class RouteWithRegExTest extends VertxTest {
 		super.before(context);
 
 		TestRegExRest testRest = new TestRegExRest();
-		Router router = RestRouter.register(vertx, testRest);
+		Router router = RestRouter.register(vertx, testRest, TestRegExGroupRest.class);
 
 		vertx.createHttpServer()
 			.requestHandler(router::accept)
@@ -79,4 +80,35 @@ public class RouteWithRegExTest extends VertxTest {
 		});
 	}
 
+	@Test
+	public void testRegExWithPathParam(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/regExGroup/a%20b/times/3", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("a ba ba b", body.toString());
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void testRegExWithGroups(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/regExGroup/abba/3", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertEquals("abba3", body.toString());
+				async.complete();
+			});
+		});
+	}
 }
@@ -0,0 +1,190 @@
+package com.zandero.rest;
+
+import com.zandero.rest.test.TestStreamRest;
+import io.vertx.core.json.JsonArray;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.ext.web.Router;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ *
+ */
+@RunWith(VertxUnitRunner.class)
+public class StreamResponseTest extends VertxTest {
+
+	@Before
+	public void start(TestContext context) {
+
+		super.before(context);
+
+		TestStreamRest.closeHandlerCalled.set(false);
+		TestStreamRest.streamClosed.set(false);
+		TestStreamRest.readStreamEnded.set(false);
+
+		Router router = RestRouter.register(vertx, TestStreamRest.class);
+		vertx.createHttpServer()
+			.requestHandler(router::accept)
+			.listen(PORT);
+	}
+
+	@Test
+	public void streamAsJsonArrayTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/stream/items?count=3", response -> {
+
+			context.assertEquals(200, response.statusCode());
+			context.assertEquals("chunked", response.getHeader("Transfer-Encoding"));
+
+			response.bodyHandler(body -> {
+				context.assertEquals("[{\"name\":\"name0\",\"value\":\"value0\"}," +
+				                     "{\"name\":\"name1\",\"value\":\"value1\"}," +
+				                     "{\"name\":\"name2\",\"value\":\"value2\"}]", body.toString());
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void emptyStreamTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/stream/items?count=0", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.bodyHandler(body -> {
+				context.assertEquals("[]", body.toString());
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void largeStreamTest(TestContext context) {
+
+		final Async async = context.async();
+
+		// large enough to fill up write queue
+		client.getNow("/stream/items?count=50000", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.bodyHandler(body -> {
+				context.assertEquals(50000, new JsonArray(body.toString()).size());
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void iteratorAsNdJsonTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/stream/lines?count=3", response -> {
+
+			context.assertEquals(200, response.statusCode());
+			context.assertEquals("application/x-ndjson", response.getHeader("Content-Type"));
+
+			response.bodyHandler(body -> {
+				context.assertEquals("0\n1\n2\n", body.toString());
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void pulledOnWorkerThreadTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/stream/threads?count=200", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.bodyHandler(body -> {
+
+				JsonArray threads = new JsonArray(body.toString());
+				context.assertEquals(200, threads.size());
+
+				for (Object thread : threads) {
+					context.assertTrue(thread.toString().contains("worker"), "Stream pulled on: " + thread);
+				}
+
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void clientClosedTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/stream/endless", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			// client is gone after first chunk
+			response.handler(buffer -> client.close());
+		});
+
+		vertx.setPeriodic(100, id -> {
+
+			// user close handler is kept and stream is closed
+			if (TestStreamRest.closeHandlerCalled.get() && TestStreamRest.streamClosed.get()) {
+				vertx.cancelTimer(id);
+				async.complete();
+			}
+		});
+	}
+
+	@Test
+	public void readStreamTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/stream/read?count=3", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.bodyHandler(body -> {
+				context.assertEquals("[{\"name\":\"name0\",\"value\":\"value0\"}," +
+				                     "{\"name\":\"name1\",\"value\":\"value1\"}," +
+				                     "{\"name\":\"name2\",\"value\":\"value2\"}]", body.toString());
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void readStreamClientClosedTest(TestContext context) {
+
+		final Async async = context.async();
+
+		// large enough to be paused on full write queue
+		client.getNow("/stream/read?count=1000000", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			// client is gone after first chunk
+			response.handler(buffer -> client.close());
+		});
+
+		vertx.setPeriodic(100, id -> {
+
+			// paused stream is released (drained to its end)
+			if (TestStreamRest.readStreamEnded.get()) {
+				vertx.cancelTimer(id);
+				async.complete();
+			}
+		});
+	}
+}
@@ -0,0 +1,94 @@
+package com.zandero.rest;
+
+import com.zandero.rest.test.TestBlockingRest;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.ext.web.Router;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Runs against the packaged multi-release jar (failsafe, java21 profile) so the Java 21 classes are used
+ */
+@RunWith(VertxUnitRunner.class)
+public class VirtualThreadIT extends VertxTest {
+
+	@Before
+	public void start(TestContext context) {
+
+		super.before(context);
+
+		Router router = RestRouter.register(vertx, TestBlockingRest.class);
+
+		vertx.createHttpServer()
+		     .requestHandler(router::accept)
+		     .listen(PORT);
+	}
+
+	@Test
+	public void supportedTest(TestContext context) {
+
+		context.assertTrue(VirtualThreads.isSupported(), "Java 21 classes of multi-release jar not loaded");
+	}
+
+	@Test
+	public void virtualThreadTest(TestContext context) {
+
+		final Async async = context.async();
+
+		client.getNow("/blocking/virtual-thread", response -> {
+
+			context.assertEquals(200, response.statusCode());
+
+			response.handler(body -> {
+				context.assertTrue(body.toString().startsWith("rest.vertx-virtual-"), body.toString());
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void concurrentTest(TestContext context) {
+
+		final Async async = context.async(2);
+		long start = System.currentTimeMillis();
+
+		for (int index = 0; index < 2; index++) {
+			client.getNow("/blocking/virtual?wait=500", response -> {
+
+				context.assertEquals(200, response.statusCode());
+				context.assertTrue(System.currentTimeMillis() - start < 1000, "Calls were executed one after another");
+
+				response.handler(body -> {
+					context.assertEquals("done", body.toString());
+					async.countDown();
+				});
+			});
+		}
+	}
+
+	@Test
+	public void queueFullTest(TestContext context) {
+
+		final Async async = context.async(2);
+		ConcurrentMap<Integer, Integer> statuses = new ConcurrentHashMap<>();
+
+		for (int index = 0; index < 2; index++) {
+			client.getNow("/blocking/virtual-limited?wait=500", response -> {
+
+				statuses.merge(response.statusCode(), 1, Integer::sum);
+				if (statuses.values().stream().mapToInt(Integer::intValue).sum() == 2) {
+					context.assertEquals(1, statuses.get(200));
+					context.assertEquals(1, statuses.get(503));
+				}
+
+				async.countDown();
+			});
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package com.zandero.rest.benchmark;
+
+import com.zandero.rest.data.MethodInvoker;
+import com.zandero.rest.data.MethodInvokerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reflective Method.invoke() with prepared method handle invokers
+ * for methods with 0, 3 and 8 arguments
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.zandero.rest.benchmark.MethodInvokerBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MethodInvokerBenchmark {
+
+	public static class Api {
+
+		public String none() {
+
+			return "none";
+		}
+
+		public int three(int one, String two, long three) {
+
+			return one + two.length() + (int) three;
+		}
+
+		public int eight(int a, int b, int c, int d, String e, String f, long g, Integer h) {
+
+			return a + b + c + d + e.length() + f.length() + (int) g + h;
+		}
+	}
+
+	private final Object[] threeArgs = new Object[]{1, "two", 3L};
+
+	private final Object[] eightArgs = new Object[]{1, 2, 3, 4, "five", "six", 7L, 8};
+
+	private Api api;
+
+	private Method noneMethod;
+	private Method threeMethod;
+	private Method eightMethod;
+
+	private MethodInvoker noneInvoker;
+	private MethodInvoker threeInvoker;
+	private MethodInvoker eightInvoker;
+
+	@Setup
+	public void setup() throws NoSuchMethodException {
+
+		api = new Api();
+
+		noneMethod = Api.class.getMethod("none");
+		threeMethod = Api.class.getMethod("three", int.class, String.class, long.class);
+		eightMethod = Api.class.getMethod("eight", int.class, int.class, int.class, int.class, String.class, String.class, long.class, Integer.class);
+
+		noneInvoker = MethodInvokerFactory.get(api, noneMethod);
+		threeInvoker = MethodInvokerFactory.get(api, threeMethod);
+		eightInvoker = MethodInvokerFactory.get(api, eightMethod);
+	}
+
+	@Benchmark
+	public Object reflectionNone() throws Exception {
+
+		return noneMethod.invoke(api);
+	}
+
+	@Benchmark
+	public Object invokerNone() throws Exception {
+
+		return noneInvoker.invoke(null);
+	}
+
+	@Benchmark
+	public Object reflectionThree() throws Exception {
+
+		return threeMethod.invoke(api, threeArgs);
+	}
+
+	@Benchmark
+	public Object invokerThree() throws Exception {
+
+		return threeInvoker.invoke(threeArgs);
+	}
+
+	@Benchmark
+	public Object reflectionEight() throws Exception {
+
+		return eightMethod.invoke(api, eightArgs);
+	}
+
+	@Benchmark
+	public Object invokerEight() throws Exception {
+
+		return eightInvoker.invoke(eightArgs);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+
+		new Runner(new OptionsBuilder().include(MethodInvokerBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,120 @@
+package com.zandero.rest.benchmark;
+
+import com.zandero.rest.AnnotationProcessor;
+import com.zandero.rest.data.ArgumentProvider;
+import com.zandero.rest.data.MethodInvokerFactory;
+import com.zandero.rest.data.ParamConverterFactory;
+import com.zandero.rest.data.RouteDefinition;
+import com.zandero.rest.data.RouteInvocation;
+import com.zandero.rest.exception.ExceptionHandlerFactory;
+import com.zandero.rest.writer.GenericResponseWriter;
+import com.zandero.rest.writer.HttpResponseWriter;
+import com.zandero.utils.extra.UrlUtils;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing the query string for each query parameter (as done before)
+ * with a single parse per request when providing arguments for a 10 parameter endpoint
+ *
+ * Run with GC profiler to see allocation per call:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.zandero.rest.benchmark.QueryParameterBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryParameterBenchmark {
+
+	@Path("bench")
+	public static class Api {
+
+		@GET
+		@Path("ten")
+		public int ten(@QueryParam("a") int a, @QueryParam("b") int b, @QueryParam("c") int c, @QueryParam("d") int d,
+		               @QueryParam("e") String e, @QueryParam("f") String f, @QueryParam("g") String g,
+		               @QueryParam("h") long h, @QueryParam("i") boolean i, @QueryParam("j") String j) {
+
+			return a + b + c + d + e.length() + f.length() + g.length() + (int) h + (i ? 1 : 0) + j.length();
+		}
+	}
+
+	private static final String[] NAMES = {"a", "b", "c", "d", "e", "f", "g", "h", "i", "j"};
+
+	private static final String QUERY = "a=1&b=2&c=3&d=4&e=five&f=six%20and&g=seven&h=8&i=true&j=ten";
+
+	private RouteInvocation invocation;
+
+	private RoutingContext context;
+
+	@Setup
+	public void setup() {
+
+		Api api = new Api();
+		Map<RouteDefinition, Method> definitions = AnnotationProcessor.get(Api.class);
+		Map.Entry<RouteDefinition, Method> entry = definitions.entrySet().iterator().next();
+
+		RouteDefinition definition = entry.getKey();
+		invocation = new RouteInvocation(api,
+		                                 MethodInvokerFactory.get(api, entry.getValue()),
+		                                 definition,
+		                                 new HttpResponseWriter[]{new GenericResponseWriter()},
+		                                 null,
+		                                 ArgumentProvider.getExtractors(definition, null, new ParamConverterFactory()),
+		                                 null,
+		                                 new ExceptionHandlerFactory());
+
+		HttpServerRequest request = (HttpServerRequest) Proxy.newProxyInstance(getClass().getClassLoader(),
+		                                                                       new Class[]{HttpServerRequest.class},
+		                                                                       (proxy, method, args) -> "query".equals(method.getName()) ? QUERY : null);
+
+		context = (RoutingContext) Proxy.newProxyInstance(getClass().getClassLoader(),
+		                                                  new Class[]{RoutingContext.class},
+		                                                  (proxy, method, args) -> "request".equals(method.getName()) ? request : null);
+	}
+
+	/**
+	 * Query string parsed and decoded for each parameter (values only, no type conversion)
+	 */
+	@Benchmark
+	public Object parsePerParameter() {
+
+		Object[] values = new Object[NAMES.length];
+		for (int index = 0; index < NAMES.length; index++) {
+			Map<String, String> query = UrlUtils.getQuery(context.request().query());
+			values[index] = query.get(NAMES[index]);
+		}
+
+		return values;
+	}
+
+	/**
+	 * Query string parsed once per request
+	 */
+	@Benchmark
+	public Object parseOnce() {
+
+		return ArgumentProvider.getArguments(invocation, context);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+
+		new Runner(new OptionsBuilder().include(QueryParameterBenchmark.class.getSimpleName())
+		                               .addProfiler("gc")
+		                               .build()).run();
+	}
+}
@@ -0,0 +1,106 @@
+package com.zandero.rest.benchmark;
+
+import com.zandero.rest.data.RouteDefinition;
+import com.zandero.rest.data.RouteTree;
+import io.vertx.core.http.HttpMethod;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares route lookup in route tree with matching routes one by one (as vert.x router does for separately bound routes)
+ * lookup time of route tree should stay flat regardless of number of routes
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.zandero.rest.benchmark.RouteTreeBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RouteTreeBenchmark {
+
+	@Path("bench")
+	public static class Api {
+
+		@GET
+		@Path("item")
+		public String item() {
+
+			return "item";
+		}
+	}
+
+	@Param({"1", "100", "2000"})
+	public int routes;
+
+	private RouteTree tree;
+
+	private List<Pattern> patterns;
+
+	/**
+	 * last registered route (worst case for matching one by one)
+	 */
+	private String path;
+
+	@Setup
+	public void setup() throws NoSuchMethodException {
+
+		RouteDefinition base = new RouteDefinition(Api.class);
+		Annotation[] annotations = Api.class.getMethod("item").getAnnotations();
+
+		tree = new RouteTree();
+		patterns = new ArrayList<>();
+
+		for (int index = 0; index < routes; index++) {
+
+			RouteDefinition definition = new RouteDefinition(base, annotations).path("r" + index + "/{id}");
+			tree.add(definition, context -> {});
+
+			// vert.x converts path parameters into a regular expression per route
+			patterns.add(Pattern.compile(definition.getRoutePath().replaceAll(":\\w+", "([^/]+)")));
+		}
+
+		path = "/bench/item/r" + (routes - 1) + "/42";
+	}
+
+	/**
+	 * Routes matched one by one until first match
+	 */
+	@Benchmark
+	public Object matchOneByOne() {
+
+		for (Pattern pattern : patterns) {
+			if (pattern.matcher(path).matches()) {
+				return pattern;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Single lookup in route tree
+	 */
+	@Benchmark
+	public Object matchTree() {
+
+		return tree.match(HttpMethod.GET, path);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+
+		new Runner(new OptionsBuilder().include(RouteTreeBenchmark.class.getSimpleName())
+		                               .build()).run();
+	}
+}
@@ -0,0 +1,153 @@
+package com.zandero.rest.benchmark;
+
+import com.zandero.rest.RestRouter;
+import com.zandero.rest.annotation.Blocking;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.Router;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares @Blocking routes executed in vert.x worker pool (20 threads by default) with @Blocking(virtual = true) routes
+ * for 1k and 10k concurrent in-flight requests, each call blocks for 10ms (as a JDBC query would)
+ * requests go through RestRouter registered routes (argument provider, invocation, response writer) over HTTP
+ *
+ * Virtual threads are used on Java 21 or newer when rest.vertx is loaded from the multi-release jar (not from target/classes),
+ * otherwise the virtual route falls back to worker pool. Each request keeps a connection open (raise ulimit -n for 10k):
+ * mvn package -DskipTests dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/rest.vertx-0.5.jar:target/test-classes:$(cat target/cp.txt) com.zandero.rest.benchmark.VirtualThreadBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VirtualThreadBenchmark {
+
+	private static final int PORT = 4445;
+
+	/**
+	 * simulated blocking call in ms
+	 */
+	private static final long LATENCY = 10;
+
+	@Path("bench")
+	public static class Api {
+
+		@GET
+		@Path("worker")
+		@Blocking(ordered = false)
+		public int worker() {
+
+			return call();
+		}
+
+		@GET
+		@Path("virtual")
+		@Blocking(virtual = true)
+		public int virtual() {
+
+			return call();
+		}
+	}
+
+	@Param({"1000", "10000"})
+	public int inFlight;
+
+	private Vertx vertx;
+
+	private HttpClient client;
+
+	@Setup
+	public void setup() throws InterruptedException {
+
+		vertx = Vertx.vertx();
+
+		Router router = RestRouter.register(vertx, Api.class);
+
+		CountDownLatch listening = new CountDownLatch(1);
+		HttpServer server = vertx.createHttpServer().requestHandler(router::accept);
+		server.listen(PORT, result -> listening.countDown());
+		listening.await();
+
+		client = vertx.createHttpClient(new HttpClientOptions().setDefaultPort(PORT)
+		                                                       .setMaxPoolSize(inFlight));
+	}
+
+	@TearDown
+	public void tearDown() {
+
+		client.close();
+		vertx.close();
+	}
+
+	/**
+	 * Requests to route executed in vert.x worker pool (unordered)
+	 */
+	@Benchmark
+	public int workerPool() throws InterruptedException {
+
+		return request("/bench/worker");
+	}
+
+	/**
+	 * Requests to route executed on virtual threads
+	 */
+	@Benchmark
+	public int virtualThreads() throws InterruptedException {
+
+		return request("/bench/virtual");
+	}
+
+	/**
+	 * Sends in-flight number of requests at once and waits for all responses
+	 */
+	private int request(String path) throws InterruptedException {
+
+		CountDownLatch latch = new CountDownLatch(inFlight);
+		AtomicInteger total = new AtomicInteger();
+
+		for (int index = 0; index < inFlight; index++) {
+			client.getNow(path, response -> response.bodyHandler(body -> {
+				if (response.statusCode() == 200) {
+					total.addAndGet(Integer.parseInt(body.toString()));
+				}
+
+				latch.countDown();
+			}));
+		}
+
+		latch.await();
+		return total.get();
+	}
+
+	private static int call() {
+
+		try {
+			Thread.sleep(LATENCY);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		return 1;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+
+		new Runner(new OptionsBuilder().include(VirtualThreadBenchmark.class.getSimpleName())
+		                               .build()).run();
+	}
+}
@@ -0,0 +1,102 @@
+package com.zandero.rest.data;
+
+import org.junit.Test;
+
+import javax.ws.rs.core.MediaType;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class AcceptHeaderTest {
+
+	private static final MediaType[] PRODUCES = new MediaType[]{MediaType.APPLICATION_JSON_TYPE, MediaType.TEXT_PLAIN_TYPE};
+
+	@Test
+	public void noAcceptTest() {
+
+		assertEquals(0, AcceptHeader.negotiate(null, PRODUCES));
+		assertEquals(0, AcceptHeader.negotiate("*/*", PRODUCES));
+		assertEquals(-1, AcceptHeader.negotiate("*/*", null));
+	}
+
+	@Test
+	public void exactMatchTest() {
+
+		assertEquals(1, AcceptHeader.negotiate("text/plain", PRODUCES));
+		assertEquals(0, AcceptHeader.negotiate("application/json", PRODUCES));
+		assertEquals(-1, AcceptHeader.negotiate("text/html", PRODUCES));
+	}
+
+	@Test
+	public void qualityTest() {
+
+		assertEquals(1, AcceptHeader.negotiate("application/json;q=0.5, text/plain", PRODUCES));
+		assertEquals(0, AcceptHeader.negotiate("application/json;q=0.8, text/*;q=0.7", PRODUCES));
+
+		// most specific range decides ... json is excluded
+		assertEquals(1, AcceptHeader.negotiate("*/*;q=0.1, application/json;q=0", PRODUCES));
+		assertEquals(-1, AcceptHeader.negotiate("application/json;q=0, text/plain;q=0", PRODUCES));
+	}
+
+	@Test
+	public void canonicalKeyTest() {
+
+		MediaType[] produces = new MediaType[]{MediaTypeHelper.valueOf("text/csv"), MediaTypeHelper.valueOf("text/tab-separated-values")};
+
+		// range key is the canonical key of produced media type ... compared by reference
+		AcceptHeader.MediaRange[] ranges = AcceptHeader.parse("text/tab-separated-values;q=0.9");
+		assertSame(MediaTypeHelper.getKey(produces[1]), ranges[0].key);
+		assertEquals(1, AcceptHeader.negotiate("text/tab-separated-values;q=0.9", produces));
+
+		// case insensitive match
+		assertEquals(0, AcceptHeader.negotiate("TEXT/CSV", produces));
+		assertNull(AcceptHeader.parse("text/*")[0].key);
+	}
+
+	@Test
+	public void parseTest() {
+
+		AcceptHeader.MediaRange[] ranges = AcceptHeader.parse("text/*;q=0.5, text/html, */*;q=0.1, application/json; charset=utf-8");
+		assertEquals(4, ranges.length);
+
+		assertEquals("text", ranges[0].type);
+		assertEquals("html", ranges[0].subtype);
+		assertEquals("json", ranges[1].subtype);
+		assertEquals("*", ranges[2].subtype);
+		assertEquals(0.5f, ranges[2].quality, 0.001f);
+		assertEquals("*", ranges[3].type);
+
+		// cached
+		assertSame(ranges, AcceptHeader.parse("text/*;q=0.5, text/html, */*;q=0.1, application/json; charset=utf-8"));
+	}
+
+	@Test
+	public void cacheLimitTest() {
+
+		try {
+			AcceptHeader.MediaRange[] hot = AcceptHeader.parse("application/json");
+			AcceptHeader.MediaRange[] cold = AcceptHeader.parse("text/plain");
+
+			for (int index = 0; index < AcceptHeader.CACHE_SIZE * 10; index++) {
+
+				AcceptHeader.MediaRange[] ranges = AcceptHeader.parse("text/plain;q=0.5, application/x-" + index);
+				assertEquals(2, ranges.length);
+				assertEquals("x-" + index, ranges[0].subtype);
+
+				// recently used value stays cached
+				assertSame(hot, AcceptHeader.parse("application/json"));
+			}
+
+			assertTrue(AcceptHeader.getCacheSize() <= AcceptHeader.CACHE_SIZE);
+
+			// least recently used value was evicted ... parsed again
+			assertNotSame(cold, AcceptHeader.parse("text/plain"));
+			assertEquals(1, AcceptHeader.negotiate("application/json;q=0.5, text/plain", PRODUCES));
+		}
+		finally {
+			AcceptHeader.clearCache(); // don't affect other tests
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package com.zandero.rest.data;
+
+import com.zandero.rest.AnnotationProcessor;
+import com.zandero.rest.reader.CustomBodyReader;
+import com.zandero.rest.test.TestReaderRest;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ *
+ */
+public class ArgumentProviderTest {
+
+	@Test
+	public void collectionBodyArgumentTest() {
+
+		RouteDefinition definition = AnnotationProcessor.get(TestReaderRest.class)
+		                                                .keySet()
+		                                                .stream()
+		                                                .filter(item -> "/read/custom".equals(item.getPath()))
+		                                                .findFirst()
+		                                                .orElse(null);
+		assertNotNull(definition);
+
+		// List<String> body argument is read by body reader (not as multi value query param)
+		ArgumentExtractor[] extractors = ArgumentProvider.getExtractors(definition, new CustomBodyReader(), new ParamConverterFactory());
+		assertEquals(1, extractors.length);
+
+		RoutingContext context = (RoutingContext) Proxy.newProxyInstance(getClass().getClassLoader(),
+		                                                                 new Class[]{RoutingContext.class},
+		                                                                 (proxy, method, args) -> "getBody".equals(method.getName()) ? Buffer.buffer("The quick fox") : null);
+
+		assertEquals(Arrays.asList("The", "quick", "fox"), extractors[0].extract(context, null));
+	}
+}
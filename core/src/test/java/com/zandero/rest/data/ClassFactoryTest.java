@@ -0,0 +1,232 @@
+package com.zandero.rest.data;
+
+import com.zandero.rest.exception.ClassFactoryException;
+import com.zandero.rest.exception.ExceptionHandlerFactory;
+import com.zandero.rest.exception.GenericExceptionHandler;
+import com.zandero.rest.exception.WebApplicationExceptionHandler;
+import com.zandero.rest.reader.ReaderFactory;
+import com.zandero.rest.reader.IntegerBodyReader;
+import com.zandero.rest.test.data.IntegerHolder;
+import com.zandero.rest.test.data.SimulatedUser;
+import com.zandero.rest.test.handler.IllegalArgumentExceptionHandler;
+import com.zandero.rest.test.handler.JsonExceptionHandler;
+import com.zandero.rest.test.json.Dummy;
+import com.zandero.rest.test.json.ExtendedDummy;
+import com.zandero.rest.test.reader.DummyBodyReader;
+import com.zandero.rest.test.reader.ExtendedDummyBodyReader;
+import com.zandero.rest.test.writer.TestCustomWriter;
+import com.zandero.rest.test.writer.TestDummyWriter;
+import com.zandero.rest.writer.HttpResponseWriter;
+import com.zandero.rest.writer.JaxResponseWriter;
+import com.zandero.rest.writer.JsonResponseWriter;
+import com.zandero.rest.writer.WriterFactory;
+import org.junit.Test;
+
+import javax.ws.rs.NotAllowedException;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+import java.lang.reflect.Type;
+import java.util.Queue;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class ClassFactoryTest {
+
+	@Test
+	public void getGenericTypeTest() {
+
+		assertNull(ClassFactory.getGenericType(DummyBodyReader.class)); // type erasure ... we can't tell
+
+		assertEquals(Integer.class, ClassFactory.getGenericType(IntegerBodyReader.class)); // at least we know so much
+
+		assertEquals(IllegalArgumentException.class, ClassFactory.getGenericType(IllegalArgumentExceptionHandler.class)); // at least we know so much
+
+		assertEquals(WebApplicationException.class, ClassFactory.getGenericType(WebApplicationExceptionHandler.class)); // at least we know so much
+	}
+
+	@Test
+	public void typeAreCompatibleTest() {
+
+		Type type = ClassFactory.getGenericType(NumberFormatException.class);
+		try {
+			ClassFactory.checkIfCompatibleTypes(IllegalArgumentException.class, type, "Fail");
+		}
+		catch (Exception e) {
+			fail(e.getMessage());
+		}
+	}
+
+	@Test
+	public void inheritedTypeAreCompatibleTest() {
+
+		Type type = ClassFactory.getGenericType(WebApplicationExceptionHandler.class);
+		try {
+			ClassFactory.checkIfCompatibleTypes(WebApplicationException.class, type, "Fail");
+		}
+		catch (Exception e) {
+			fail(e.getMessage());
+		}
+
+		try {
+			ClassFactory.checkIfCompatibleTypes(NotAllowedException.class, type, "Fail");
+		}
+		catch (Exception e) {
+			fail(e.getMessage());
+		}
+	}
+
+	@Test
+	public void convertPrimitiveTypes() {
+
+		assertEquals(1, ClassFactory.stringToPrimitiveType("1", int.class));
+		assertEquals(false, ClassFactory.stringToPrimitiveType("FALSE", boolean.class));
+		assertEquals('a', ClassFactory.stringToPrimitiveType("a", char.class));
+		assertEquals((short)100, ClassFactory.stringToPrimitiveType("100", short.class));
+		assertEquals(100_100_100L, ClassFactory.stringToPrimitiveType("100100100", long.class));
+		assertEquals((float)100100.98, ClassFactory.stringToPrimitiveType("100100.98", float.class));
+		assertEquals(100100.987, ClassFactory.stringToPrimitiveType("100100.987", double.class));
+	}
+
+	@Test
+	public void convertNullableTypes() {
+
+		assertEquals(1, ClassFactory.stringToPrimitiveType("1", Integer.class));
+		assertEquals(false, ClassFactory.stringToPrimitiveType("FALSE", Boolean.class));
+		assertEquals('a', ClassFactory.stringToPrimitiveType("a", Character.class));
+		assertEquals((short)100, ClassFactory.stringToPrimitiveType("100", Short.class));
+		assertEquals(100_100_100L, ClassFactory.stringToPrimitiveType("100100100", Long.class));
+		assertEquals((float)100100.98, ClassFactory.stringToPrimitiveType("100100.98", Float.class));
+		assertEquals(100100.987, ClassFactory.stringToPrimitiveType("100100.987", Double.class));
+	}
+	
+	@Test
+	public void constructTypeTest() throws ClassFactoryException {
+
+		Object out = ClassFactory.constructType(Dummy.class, "{\"name\":\"unknown\", \"value\": \"user\"}");
+		assertNotNull(out);
+		assertTrue(out instanceof Dummy);
+
+		Dummy dummy = (Dummy)out;
+		assertEquals("unknown", dummy.name);
+		assertEquals("user", dummy.value);
+
+		SimulatedUser user = (SimulatedUser) ClassFactory.constructType(SimulatedUser.class, "BLA");
+		assertNotNull(user);
+		assertEquals("BLA", user.getRole());
+	}
+
+	@Test
+	public void constructIntegerTest() throws ClassFactoryException {
+
+		IntegerHolder holder = (IntegerHolder) ClassFactory.constructType(IntegerHolder.class, "1");
+		assertNotNull(holder);
+		assertEquals(1, holder.value);
+	}
+
+	@Test
+	public void concurrentLookupAndRegistrationTest() throws InterruptedException {
+
+		WriterFactory factory = new WriterFactory();
+
+		int threads = 8;
+		int iterations = 20_000;
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+		for (int thread = 0; thread < threads; thread++) {
+
+			int id = thread;
+			executor.submit(() -> {
+
+				try {
+					start.await();
+
+					for (int index = 0; index < iterations; index++) {
+
+						// registration and clear interleaved with lookups
+						if (id == 0 && index % 1000 == 0) {
+							factory.clear();
+						} else if (index % 100 == id) {
+							factory.register(Dummy.class, TestDummyWriter.class);
+							factory.register("application/xml", TestCustomWriter.class);
+						}
+
+						// defaults must always be present
+						assertEquals(JaxResponseWriter.class, factory.get(Response.class));
+
+						HttpResponseWriter writer = factory.get("application/json");
+						assertTrue(writer instanceof JsonResponseWriter);
+
+						Class<? extends HttpResponseWriter> dummy = factory.get(Dummy.class);
+						assertTrue(dummy == null || dummy.equals(TestDummyWriter.class));
+					}
+				}
+				catch (Throwable e) {
+					errors.add(e);
+				}
+			});
+		}
+
+		start.countDown();
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+		assertTrue("Failed with: " + errors.peek(), errors.isEmpty());
+
+		factory.register(Dummy.class, TestDummyWriter.class);
+		assertEquals(TestDummyWriter.class, factory.get(Dummy.class));
+	}
+
+	@Test
+	public void distanceTest() {
+
+		assertEquals(0, ClassFactory.getDistance(Dummy.class, Dummy.class));
+		assertEquals(1, ClassFactory.getDistance(ExtendedDummy.class, Dummy.class));
+		assertEquals(2, ClassFactory.getDistance(ExtendedDummy.class, Object.class));
+		assertEquals(2, ClassFactory.getDistance(NumberFormatException.class, RuntimeException.class));
+		assertEquals(-1, ClassFactory.getDistance(Dummy.class, ExtendedDummy.class));
+	}
+
+	@Test
+	public void mostSpecificTypeTest() {
+
+		ReaderFactory factory = new ReaderFactory();
+		factory.register(Dummy.class, DummyBodyReader.class);
+		factory.register(ExtendedDummy.class, ExtendedDummyBodyReader.class);
+
+		assertEquals(DummyBodyReader.class, factory.get(Dummy.class));
+		assertEquals(ExtendedDummyBodyReader.class, factory.get(ExtendedDummy.class));
+
+		// lookup is invalidated on registration and clear
+		factory.register(Dummy.class, ExtendedDummyBodyReader.class);
+		assertEquals(ExtendedDummyBodyReader.class, factory.get(Dummy.class));
+
+		factory.clear();
+		assertNull(factory.get(Dummy.class));
+	}
+
+	@Test
+	public void mostSpecificExceptionHandlerTest() throws ClassFactoryException {
+
+		ExceptionHandlerFactory factory = new ExceptionHandlerFactory();
+		assertTrue(factory.getExceptionHandler(null, NotFoundException.class) instanceof WebApplicationExceptionHandler);
+		assertTrue(factory.getExceptionHandler(null, NumberFormatException.class) instanceof GenericExceptionHandler);
+
+		// general handler registered first ... specific one is still preferred
+		factory.register(JsonExceptionHandler.class);
+		factory.register(IllegalArgumentExceptionHandler.class);
+
+		assertTrue(factory.getExceptionHandler(null, NumberFormatException.class) instanceof IllegalArgumentExceptionHandler);
+		assertTrue(factory.getExceptionHandler(null, IllegalStateException.class) instanceof JsonExceptionHandler);
+
+		factory.clear();
+		assertTrue(factory.getExceptionHandler(null, NumberFormatException.class) instanceof GenericExceptionHandler);
+	}
+}
@@ -0,0 +1,62 @@
+package com.zandero.rest.data;
+
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class ContextProviderFactoryTest {
+
+	@Test
+	public void getProviderTest() {
+
+		ContextProviderFactory factory = new ContextProviderFactory();
+
+		ContextProvider<ArrayList> arrayList = context -> new ArrayList();
+		ContextProvider<LinkedList> linkedList = context -> new LinkedList();
+		ContextProvider<Collection> collection = context -> new HashSet();
+
+		factory.register(ArrayList.class, arrayList);
+		factory.register(LinkedList.class, linkedList);
+		factory.register(Collection.class, collection);
+
+		// exact
+		assertSame(arrayList, factory.get(ArrayList.class));
+		assertSame(collection, factory.get(Collection.class));
+
+		// most specific sub type (equal distance in order of registration)
+		assertSame(arrayList, factory.get(List.class));
+		assertSame(arrayList, factory.get(AbstractList.class));
+		assertSame(linkedList, factory.get(Deque.class));
+
+		assertNull(factory.get(Map.class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void frozenTest() {
+
+		ContextProviderFactory factory = new ContextProviderFactory();
+		factory.freeze();
+
+		factory.register(String.class, context -> "test");
+	}
+
+	@Test
+	public void contextKeysTest() {
+
+		List<String> keys = Arrays.asList(ArgumentProvider.getContextKeys(new ArrayList<>()));
+
+		assertEquals(ArgumentProvider.getContextKey(ArrayList.class), keys.get(0));
+		assertTrue(keys.contains(ArgumentProvider.getContextKey(List.class)));
+		assertTrue(keys.contains(ArgumentProvider.getContextKey(Collection.class)));
+		assertTrue(keys.contains(ArgumentProvider.getContextKey(AbstractList.class)));
+		assertFalse(keys.contains(ArgumentProvider.getContextKey(Object.class)));
+
+		// same key instance per type
+		assertSame(ArgumentProvider.getContextKey(List.class), ArgumentProvider.getContextKey(List.class));
+	}
+}
@@ -0,0 +1,62 @@
+package com.zandero.rest.data;
+
+import org.junit.Test;
+
+import javax.ws.rs.core.MediaType;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class MediaTypeHelperTest {
+
+	@Test
+	public void valueOfTest() {
+
+		MediaType type = MediaTypeHelper.valueOf("application/json;charset=UTF-8");
+		assertEquals("application", type.getType());
+		assertEquals("json", type.getSubtype());
+		assertEquals("UTF-8", type.getParameters().get("charset"));
+
+		// parsed once
+		assertSame(type, MediaTypeHelper.valueOf("application/json;charset=UTF-8"));
+		assertEquals(MediaType.APPLICATION_JSON_TYPE.withCharset("UTF-8"), type);
+
+		assertNull(MediaTypeHelper.valueOf(null));
+	}
+
+	@Test
+	public void getKeyTest() {
+
+		String key = MediaTypeHelper.getKey(MediaTypeHelper.valueOf("text/plain;charset=UTF-8"));
+		assertEquals("text/plain", key);
+
+		// same key instance for same type/subtype
+		assertSame(key, MediaTypeHelper.getKey(MediaTypeHelper.valueOf("text/plain")));
+		assertSame(key, MediaTypeHelper.getKey(MediaType.TEXT_PLAIN_TYPE));
+
+		assertEquals(MediaType.WILDCARD, MediaTypeHelper.getKey(null));
+	}
+
+	@Test
+	public void internTest() {
+
+		MediaType type = MediaTypeHelper.intern(MediaType.TEXT_HTML_TYPE);
+		assertEquals(MediaType.TEXT_HTML_TYPE, type);
+		assertSame(type, MediaTypeHelper.valueOf(MediaType.TEXT_HTML));
+		assertSame(type, MediaTypeHelper.intern(type));
+	}
+
+	@Test
+	public void findKeyTest() {
+
+		String key = MediaTypeHelper.getKey(MediaTypeHelper.valueOf("application/xml"));
+		assertSame(key, MediaTypeHelper.findKey(new String("application/xml")));
+
+		// not interned by lookup
+		String unknown = new String("application/x-unknown-" + System.nanoTime());
+		assertSame(unknown, MediaTypeHelper.findKey(unknown));
+		assertSame(unknown, MediaTypeHelper.findKey(unknown));
+	}
+}
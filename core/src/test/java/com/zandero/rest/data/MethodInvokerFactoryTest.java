@@ -0,0 +1,104 @@
+package com.zandero.rest.data;
+
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class MethodInvokerFactoryTest {
+
+	public static class Invoked {
+
+		public String none() {
+
+			return "none";
+		}
+
+		public String three(String one, int two, boolean three) {
+
+			return one + two + three;
+		}
+
+		public long eight(int a, int b, int c, int d, long e, long f, Integer g, Long h) {
+
+			return a + b + c + d + e + f + g + h;
+		}
+
+		public void nothing() {
+
+		}
+
+		public static String echo(String value) {
+
+			return value;
+		}
+
+		public String fail() {
+
+			throw new IllegalArgumentException("Bang!");
+		}
+	}
+
+	static class Hidden {
+
+		public String hidden() {
+
+			return "hidden";
+		}
+	}
+
+	@Test
+	public void invokeNoArgumentsTest() throws Exception {
+
+		MethodInvoker invoker = MethodInvokerFactory.get(new Invoked(), Invoked.class.getMethod("none"));
+		assertEquals("none", invoker.invoke(null));
+		assertEquals("none", invoker.invoke(new Object[]{}));
+	}
+
+	@Test
+	public void invokeArgumentsTest() throws Exception {
+
+		Method method = Invoked.class.getMethod("three", String.class, int.class, boolean.class);
+		MethodInvoker invoker = MethodInvokerFactory.get(new Invoked(), method);
+		assertEquals("one2true", invoker.invoke(new Object[]{"one", 2, true}));
+
+		method = Invoked.class.getMethod("eight", int.class, int.class, int.class, int.class, long.class, long.class, Integer.class, Long.class);
+		invoker = MethodInvokerFactory.get(new Invoked(), method);
+		assertEquals(36L, invoker.invoke(new Object[]{1, 2, 3, 4, 5L, 6L, 7, 8L}));
+	}
+
+	@Test
+	public void invokeVoidAndStaticTest() throws Exception {
+
+		MethodInvoker invoker = MethodInvokerFactory.get(new Invoked(), Invoked.class.getMethod("nothing"));
+		assertNull(invoker.invoke(null));
+
+		invoker = MethodInvokerFactory.get(null, Invoked.class.getMethod("echo", String.class));
+		assertEquals("echo", invoker.invoke(new Object[]{"echo"}));
+	}
+
+	@Test
+	public void invokeNonPublicClassTest() throws Exception {
+
+		MethodInvoker invoker = MethodInvokerFactory.get(new Hidden(), Hidden.class.getMethod("hidden"));
+		assertEquals("hidden", invoker.invoke(null));
+	}
+
+	@Test
+	public void exceptionIsNotWrappedTest() throws Exception {
+
+		MethodInvoker invoker = MethodInvokerFactory.get(new Invoked(), Invoked.class.getMethod("fail"));
+
+		try {
+			invoker.invoke(null);
+			fail();
+		}
+		catch (IllegalArgumentException e) {
+			assertEquals("Bang!", e.getMessage());
+		}
+	}
+}
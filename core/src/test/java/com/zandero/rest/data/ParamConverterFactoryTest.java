@@ -0,0 +1,125 @@
+package com.zandero.rest.data;
+
+import com.zandero.rest.test.data.IntegerHolder;
+import com.zandero.rest.test.json.Dummy;
+import org.junit.Test;
+
+import javax.ws.rs.ext.ParamConverter;
+import java.lang.annotation.Annotation;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class ParamConverterFactoryTest {
+
+	public enum Color {
+		red,
+		green
+	}
+
+	public enum Size {
+		small,
+		large;
+
+		public static Size fromString(String value) {
+
+			return valueOf(value.toLowerCase());
+		}
+	}
+
+	private static final Annotation[] NONE = new Annotation[0];
+
+	@Test
+	public void primitiveTypesTest() {
+
+		assertEquals(1, ParamConverters.get(int.class).fromString("1").intValue());
+		assertEquals(false, ParamConverters.get(boolean.class).fromString("FALSE"));
+		assertEquals('a', ParamConverters.get(char.class).fromString("a").charValue());
+		assertEquals(100_100_100L, ParamConverters.get(Long.class).fromString("100100100").longValue());
+		assertEquals(100100.987, ParamConverters.get(double.class).fromString("100100.987"), 0.0001);
+		assertEquals("text", ParamConverters.get(String.class).fromString("text"));
+	}
+
+	@Test
+	public void builtInTypesTest() {
+
+		UUID uuid = UUID.randomUUID();
+		assertEquals(uuid, ParamConverters.get(UUID.class).fromString(uuid.toString()));
+		assertEquals(LocalDate.of(2017, 5, 1), ParamConverters.get(LocalDate.class).fromString("2017-05-01"));
+	}
+
+	@Test
+	public void enumTest() {
+
+		assertEquals(Color.green, ParamConverters.get(Color.class).fromString("green"));
+		assertEquals(Size.large, ParamConverters.get(Size.class).fromString("LARGE")); // fromString preferred
+	}
+
+	@Test
+	public void constructorTest() {
+
+		Dummy dummy = ParamConverters.get(Dummy.class).fromString("{\"name\":\"unknown\", \"value\": \"user\"}");
+		assertEquals("unknown", dummy.name);
+		assertEquals("user", dummy.value);
+
+		IntegerHolder holder = ParamConverters.get(IntegerHolder.class).fromString("1");
+		assertEquals(1, holder.value);
+	}
+
+	@Test
+	public void notConvertibleTest() {
+
+		assertNull(ParamConverters.get(Object.class));
+		assertNull(ParamConverters.get(Runnable.class));
+	}
+
+	@Test
+	public void invalidValueTest() {
+
+		try {
+			ParamConverters.get(int.class).fromString("A");
+			fail();
+		}
+		catch (NumberFormatException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void registeredConverterTest() {
+
+		ParamConverterFactory factory = new ParamConverterFactory();
+		factory.register(Color.class, new ParamConverter<Color>() {
+			@Override
+			public Color fromString(String value) {
+
+				return Color.valueOf(value.toLowerCase());
+			}
+
+			@Override
+			public String toString(Color value) {
+
+				return value.name();
+			}
+		});
+
+		// registered converter is considered first
+		assertEquals(Color.red, factory.get(Color.class, Color.class, NONE).fromString("RED"));
+
+		// built in converters for other types
+		assertEquals(2, factory.get(Integer.class, Integer.class, NONE).fromString("2").intValue());
+
+		factory.clear();
+		try {
+			factory.get(Color.class, Color.class, NONE).fromString("RED");
+			fail();
+		}
+		catch (IllegalArgumentException e) {
+			// expected ... no such constant
+		}
+	}
+}
@@ -3,9 +3,10 @@ package com.zandero.rest.data;
 import org.junit.Test;
 
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.*;
 
 /**
  *
@@ -146,4 +147,46 @@ public class PathConverterTest {
 		assertEquals(ParameterType.path, param.getType());
 	}
 
-}
\ No newline at end of file
+
+	@Test
+	public void compileTest() {
+
+		Pattern pattern = PathConverter.compile("/a/{test}/{id:\\d+}/b.json");
+		assertEquals("/a/(?<p0>[^/]+)/(?<p1>\\d+)/\\Qb.json\\E", pattern.pattern());
+
+		Matcher matcher = pattern.matcher("/a/some%20thing/12/b.json");
+		assertTrue(matcher.matches());
+		assertEquals("some%20thing", matcher.group("p0"));
+		assertEquals("12", matcher.group("p1"));
+
+		assertFalse(pattern.matcher("/a/some/thing/12/b.json").matches());
+		assertFalse(pattern.matcher("/a/thing/12/bXjson").matches());
+	}
+
+	@Test
+	public void compileWithGroupsTest() {
+
+		// groups given in regular expression don't shift parameters
+		Pattern pattern = PathConverter.compile("/{value:(a|b)+}/:name/\\d+");
+
+		Matcher matcher = pattern.matcher("/abba/ena/3");
+		assertTrue(matcher.matches());
+		assertEquals("abba", matcher.group("p0"));
+		assertEquals("ena", matcher.group("p1"));
+		assertEquals("3", matcher.group("p2"));
+
+		List<MethodParameter> list = PathConverter.extract("/{value:(a|b)+}/:name/\\d+");
+		assertEquals("p0", list.get(0).getPathGroup());
+		assertEquals("p1", list.get(1).getPathGroup());
+		assertEquals("p2", list.get(2).getPathGroup());
+	}
+
+	@Test
+	public void decodeTest() {
+
+		assertEquals("a b", PathConverter.decode("a%20b"));
+		assertEquals("a+b", PathConverter.decode("a+b"));
+		assertEquals("a+b c", PathConverter.decode("a+b%20c"));
+		assertNull(PathConverter.decode(null));
+	}
+}
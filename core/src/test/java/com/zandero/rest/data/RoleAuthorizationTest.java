@@ -0,0 +1,152 @@
+package com.zandero.rest.data;
+
+import com.zandero.rest.test.TestAuthorizationRest;
+import com.zandero.rest.test.data.RolesUser;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class RoleAuthorizationTest {
+
+	private static RouteDefinition getDefinition(String methodName) throws NoSuchMethodException {
+
+		RouteDefinition base = new RouteDefinition(TestAuthorizationRest.class);
+		return new RouteDefinition(base, TestAuthorizationRest.class.getMethod(methodName).getAnnotations());
+	}
+
+	private static Boolean check(RolesUser user, RouteDefinition definition, AuthorizationCache cache) {
+
+		AtomicReference<Boolean> output = new AtomicReference<>();
+		RoleAuthorization.check(user, definition, cache, output::set);
+		return output.get();
+	}
+
+	@Test
+	public void anyRoleTest() throws NoSuchMethodException {
+
+		RouteDefinition definition = getDefinition("oneOrTwo");
+		assertFalse(definition.requiresAllRoles());
+
+		RolesUser user = new RolesUser("one", "two");
+		assertTrue(check(user, definition, null));
+		assertEquals(1, user.getChecks()); // short circuit on first granted role
+
+		user = new RolesUser("two");
+		assertTrue(check(user, definition, null));
+		assertEquals(2, user.getChecks());
+
+		user = new RolesUser("three");
+		assertFalse(check(user, definition, null));
+		assertEquals(2, user.getChecks());
+
+		assertFalse(check(null, definition, null));
+	}
+
+	@Test
+	public void allRolesTest() throws NoSuchMethodException {
+
+		RouteDefinition definition = getDefinition("oneAndTwo");
+		assertTrue(definition.requiresAllRoles());
+
+		RolesUser user = new RolesUser("one", "two");
+		assertTrue(check(user, definition, null));
+		assertEquals(2, user.getChecks());
+
+		user = new RolesUser("two");
+		assertFalse(check(user, definition, null));
+		assertEquals(1, user.getChecks()); // short circuit on first denied role
+	}
+
+	@Test
+	public void permitDenyAllTest() throws NoSuchMethodException {
+
+		RolesUser user = new RolesUser("one");
+		assertTrue(check(user, getDefinition("all"), null));
+		assertFalse(check(user, getDefinition("nobody"), null));
+		assertEquals(0, user.getChecks());
+	}
+
+	@Test
+	public void cacheTest() throws NoSuchMethodException {
+
+		RouteDefinition definition = getDefinition("oneAndTwo");
+		AuthorizationCache cache = new AuthorizationCache();
+
+		// disabled by default
+		RolesUser user = new RolesUser("one", "two");
+		assertTrue(check(user, definition, cache));
+		assertTrue(check(user, definition, cache));
+		assertEquals(4, user.getChecks());
+
+		cache.setTimeToLive(1, TimeUnit.MINUTES);
+
+		user = new RolesUser("one", "two");
+		assertTrue(check(user, definition, cache));
+		assertTrue(check(user, definition, cache));
+		assertEquals(2, user.getChecks()); // second call served from cache
+
+		// decisions are per user
+		RolesUser other = new RolesUser("one");
+		assertFalse(check(other, definition, cache));
+		assertEquals(2, other.getChecks());
+
+		cache.remove(user);
+		assertTrue(check(user, definition, cache));
+		assertEquals(4, user.getChecks());
+	}
+
+	@Test
+	public void expiredCacheTest() throws NoSuchMethodException, InterruptedException {
+
+		RouteDefinition definition = getDefinition("user");
+		AuthorizationCache cache = new AuthorizationCache();
+		cache.setTimeToLive(10, TimeUnit.MILLISECONDS);
+
+		RolesUser user = new RolesUser("user");
+		assertTrue(check(user, definition, cache));
+		Thread.sleep(20);
+
+		assertTrue(check(user, definition, cache));
+		assertEquals(2, user.getChecks());
+	}
+
+	@Test
+	public void cachePerPrincipalTest() throws NoSuchMethodException {
+
+		RouteDefinition definition = getDefinition("user");
+		AuthorizationCache cache = new AuthorizationCache();
+		cache.setTimeToLive(1, TimeUnit.MINUTES);
+
+		assertTrue(check(new RolesUser("user"), definition, cache));
+
+		// same principal ... decision is shared
+		RolesUser user = new RolesUser("user");
+		assertTrue(check(user, definition, cache));
+		assertEquals(0, user.getChecks());
+	}
+
+	@Test
+	public void boundedCacheTest() throws NoSuchMethodException {
+
+		RouteDefinition definition = getDefinition("user");
+		AuthorizationCache cache = new AuthorizationCache();
+		cache.setTimeToLive(1, TimeUnit.MINUTES);
+
+		for (int index = 0; index <= AuthorizationCache.MAX_USERS; index++) {
+			assertTrue(check(new RolesUser("user", "user" + index), definition, cache));
+		}
+
+		assertEquals(AuthorizationCache.MAX_USERS, cache.size());
+
+		// not cached ... checked again
+		RolesUser user = new RolesUser("user", "user" + AuthorizationCache.MAX_USERS);
+		assertTrue(check(user, definition, cache));
+		assertEquals(1, user.getChecks());
+	}
+}
@@ -3,11 +3,15 @@ package com.zandero.rest.data;
 import com.zandero.rest.AnnotationProcessor;
 import com.zandero.rest.annotation.RouteOrder;
 import com.zandero.rest.test.MissingAnnotationsRest;
+import com.zandero.rest.test.TestBlockingRest;
+import com.zandero.rest.test.TestFormRest;
 import com.zandero.rest.test.TestPostRest;
+import com.zandero.rest.test.TestProducesRest;
 import com.zandero.rest.test.TestRegExRest;
 import com.zandero.rest.test.TestRest;
 import com.zandero.rest.test.json.Dummy;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.RoutingContext;
 import org.junit.Test;
 
 import java.lang.reflect.Method;
@@ -48,6 +52,44 @@ public class RouteDefinitionTest {
 		assertNull(def.getConsumes());
 	}
 
+	@Test
+	public void headersTest() throws NoSuchMethodException {
+
+		RouteDefinition base = new RouteDefinition(TestProducesRest.class);
+		assertEquals(1, base.getHeaders().size());
+		assertEquals("no-cache", base.getHeaders().get("Cache-Control"));
+
+		// method overrides class header (name is case insensitive)
+		Method method = TestProducesRest.class.getMethod("cached");
+		RouteDefinition def = new RouteDefinition(base, method.getAnnotations());
+
+		assertEquals(2, def.getHeaders().size());
+		assertEquals("max-age=60", def.getHeaders().get("Cache-Control"));
+		assertEquals("custom", def.getHeaders().get("x-custom"));
+
+		// base is not changed
+		assertEquals("no-cache", base.getHeaders().get("cache-control"));
+	}
+
+	@Test
+	public void writesCookiesTest() throws NoSuchMethodException {
+
+		RouteDefinition base = new RouteDefinition(TestFormRest.class);
+
+		// RoutingContext given ... cookies might be added
+		Method method = TestFormRest.class.getMethod("setCookie", String.class, RoutingContext.class);
+		RouteDefinition def = new RouteDefinition(base, method.getAnnotations());
+		def.setArguments(method);
+		assertTrue(def.writesCookies());
+
+		// cookies are only read
+		method = TestFormRest.class.getMethod("getCookie", String.class);
+		def = new RouteDefinition(base, method.getAnnotations());
+		def.setArguments(method);
+		assertTrue(def.hasCookies());
+		assertFalse(def.writesCookies());
+	}
+
 	@Test
 	public void getBodyParamTest() throws NoSuchMethodException {
 
@@ -82,6 +124,12 @@ public class RouteDefinitionTest {
 		assertEquals(ParameterType.header, param.getType());
 		assertEquals(String.class, param.getDataType());
 		assertNull(param.getDefaultValue());
+
+		// frozen in argument order
+		MethodParameter[] arguments = def.getArguments();
+		assertEquals(2, arguments.length);
+		assertSame(def.getParameters().get(0), arguments[0]);
+		assertSame(def.getParameters().get(1), arguments[1]);
 	}
 
 	@Test
@@ -93,24 +141,49 @@ public class RouteDefinitionTest {
 		Method method = TestRegExRest.class.getMethods()[0];
 		RouteDefinition def = new RouteDefinition(base, method.getAnnotations());
 		assertEquals("/regEx/\\d+/minus/\\d+", def.getPath());
-		assertEquals("\\/regEx\\/\\d+\\/minus\\/\\d+", def.getRoutePath());
+		assertEquals("/regEx/(?<p0>\\d+)/minus/(?<p1>\\d+)", def.getRoutePath());
 		assertTrue(def.pathIsRegEx());
 
 		// 2.
 		method = TestRegExRest.class.getMethods()[1];
 		def = new RouteDefinition(base, method.getAnnotations());
 		assertEquals("/regEx/\\d+", def.getPath());
-		assertEquals("\\/regEx\\/\\d+", def.getRoutePath());
+		assertEquals("/regEx/(?<p0>\\d+)", def.getRoutePath());
 		assertTrue(def.pathIsRegEx());
 
 		// 3.
 		method = TestRegExRest.class.getMethods()[2];
 		def = new RouteDefinition(base, method.getAnnotations());
 		assertEquals("/regEx/{one:\\w+}/{two:\\d+}/{three:\\w+}", def.getPath());
-		assertEquals("\\/regEx\\/\\w+\\/\\d+\\/\\w+", def.getRoutePath());
+		assertEquals("/regEx/(?<p0>\\w+)/(?<p1>\\d+)/(?<p2>\\w+)", def.getRoutePath());
 		assertTrue(def.pathIsRegEx());
 	}
 
+	@Test
+	public void blockingDefinitionTest() throws NoSuchMethodException {
+
+		RouteDefinition base = new RouteDefinition(TestBlockingRest.class);
+
+		RouteDefinition def = new RouteDefinition(base, TestBlockingRest.class.getMethod("pool", long.class).getAnnotations());
+		assertTrue(def.isBlocking());
+		assertFalse(def.isOrdered());
+		assertEquals("test-pool", def.getWorkerPool());
+		assertEquals(1, def.getWorkerPoolSize());
+		assertEquals(1, def.getMaxQueue());
+
+		def = new RouteDefinition(base, TestBlockingRest.class.getMethod("unordered", long.class).getAnnotations());
+		assertTrue(def.isBlocking());
+		assertFalse(def.isOrdered());
+		assertNull(def.getWorkerPool());
+		assertEquals(0, def.getWorkerPoolSize());
+		assertEquals(-1, def.getMaxQueue());
+		assertFalse(def.isVirtual());
+
+		def = new RouteDefinition(base, TestBlockingRest.class.getMethod("virtual", long.class).getAnnotations());
+		assertTrue(def.isBlocking());
+		assertTrue(def.isVirtual());
+	}
+
 	/*@Test
 	public void incompatibleReaderTypeTest() {
 
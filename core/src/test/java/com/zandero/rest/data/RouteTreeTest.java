@@ -0,0 +1,80 @@
+package com.zandero.rest.data;
+
+import com.zandero.rest.AnnotationProcessor;
+import com.zandero.rest.test.TestPathRest;
+import com.zandero.rest.test.TestProducesRest;
+import com.zandero.rest.test.TestRegExRest;
+import io.vertx.core.http.HttpMethod;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class RouteTreeTest {
+
+	private RouteTree tree;
+
+	@Before
+	public void setUp() {
+
+		tree = new RouteTree();
+
+		for (Class<?> api : new Class[]{TestProducesRest.class, TestPathRest.class}) {
+			for (RouteDefinition definition : AnnotationProcessor.get(api).keySet()) {
+				tree.add(definition, context -> {});
+			}
+		}
+	}
+
+	@Test
+	public void splitTest() {
+
+		assertArrayEquals(new String[0], RouteTree.split("/"));
+		assertArrayEquals(new String[]{"a", "b"}, RouteTree.split("/a//b/"));
+		assertArrayEquals(new String[]{"a", ":id"}, RouteTree.split("a/:id"));
+	}
+
+	@Test
+	public void matchTest() {
+
+		assertEquals(3, tree.size());
+
+		RouteTree.Match match = tree.match(HttpMethod.GET, "/produces/hello");
+		assertNotNull(match);
+		assertTrue(match.isAllowed());
+		assertEquals("/produces/hello", match.getDefinition().getPath());
+
+		// trailing slash is ignored
+		match = tree.match(HttpMethod.GET, "/produces/cached/");
+		assertNotNull(match);
+		assertEquals("/produces/cached", match.getDefinition().getPath());
+
+		match = tree.match(HttpMethod.GET, "/produces/echo/me");
+		assertNotNull(match);
+		assertEquals("/{root}/echo/{param}", match.getDefinition().getPath());
+
+		assertNull(tree.match(HttpMethod.GET, "/produces"));
+		assertNull(tree.match(HttpMethod.GET, "/produces/hello/world"));
+	}
+
+	@Test
+	public void methodNotAllowedTest() {
+
+		RouteTree.Match match = tree.match(HttpMethod.POST, "/produces/hello");
+		assertNotNull(match);
+		assertFalse(match.isAllowed());
+		assertNull(match.getDefinition());
+		assertEquals("GET", match.getAllow().toString());
+	}
+
+	@Test
+	public void unsupportedTest() {
+
+		for (RouteDefinition definition : AnnotationProcessor.get(TestRegExRest.class).keySet()) {
+			assertFalse(RouteTree.supports(definition));
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package com.zandero.rest.reader;
+
+import com.zandero.rest.test.json.Dummy;
+import com.zandero.utils.extra.JsonUtils;
+import io.vertx.core.buffer.Buffer;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class JsonBodyReaderTest {
+
+	@Test
+	public void convertToJson() {
+
+		Dummy test = new Dummy("Hello", "World");
+		String value = JsonUtils.toJson(test);
+
+		JsonBodyReader reader = new JsonBodyReader();
+		Object item = reader.read(value, Dummy.class);
+
+		assertTrue(item instanceof Dummy);
+
+		Dummy dummy = (Dummy)item;
+		assertEquals("Hello", dummy.name);
+		assertEquals("World", dummy.value);
+	}
+
+	@Test
+	public void convertBufferToJson() {
+
+		Dummy test = new Dummy("Hello", "W\u00f6rld");
+		Buffer value = Buffer.buffer(JsonUtils.toJson(test));
+
+		JsonBodyReader<Dummy> reader = new JsonBodyReader<>();
+		Dummy dummy = reader.readBuffer(value, Dummy.class);
+
+		assertEquals("Hello", dummy.name);
+		assertEquals("W\u00f6rld", dummy.value);
+	}
+
+	@Test
+	public void emptyBufferTest() {
+
+		JsonBodyReader<Dummy> reader = new JsonBodyReader<>();
+		assertNull(reader.readBuffer(Buffer.buffer(" \n "), Dummy.class));
+		assertNull(reader.readBuffer(null, Dummy.class));
+		assertNull(reader.read(null, Dummy.class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidBufferTest() {
+
+		JsonBodyReader<Dummy> reader = new JsonBodyReader<>();
+		reader.readBuffer(Buffer.buffer("{\"name\":"), Dummy.class);
+	}
+}
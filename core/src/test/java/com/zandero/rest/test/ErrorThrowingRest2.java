@@ -1,5 +1,7 @@
 package com.zandero.rest.test;
 
+import com.zandero.rest.exception.StacklessException;
+
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 
@@ -15,4 +17,11 @@ public class ErrorThrowingRest2 {
 
 		throw new IllegalArgumentException("KABUM!");
 	}
+
+	@GET
+	@Path("missing")
+	public String returnMissing() {
+
+		throw new StacklessException(404, "Not here!");
+	}
 }
@@ -0,0 +1,63 @@
+package com.zandero.rest.test;
+
+import com.zandero.rest.test.json.Dummy;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import rx.Observable;
+import rx.Single;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ *
+ */
+@Path("async")
+public class TestAsyncRest {
+
+	@GET
+	@Path("future")
+	@Produces("application/json")
+	public Future<Dummy> future(@Context Vertx vertx) {
+
+		Future<Dummy> future = Future.future();
+		vertx.setTimer(10, id -> future.complete(new Dummy("future", "done")));
+		return future;
+	}
+
+	@GET
+	@Path("fail")
+	public Future<String> fail() {
+
+		return Future.failedFuture(new IllegalArgumentException("Failed future!"));
+	}
+
+	@GET
+	@Path("completion")
+	@Produces("text/plain")
+	public CompletionStage<String> completion() {
+
+		// completed on other thread
+		return CompletableFuture.supplyAsync(() -> "completed");
+	}
+
+	@GET
+	@Path("single")
+	@Produces("text/plain")
+	public Single<String> single() {
+
+		return Single.just("single");
+	}
+
+	@GET
+	@Path("observable")
+	@Produces("application/json")
+	public Observable<Integer> observable() {
+
+		return Observable.just(1, 2, 3);
+	}
+}
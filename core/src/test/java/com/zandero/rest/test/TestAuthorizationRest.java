@@ -1,5 +1,6 @@
 package com.zandero.rest.test;
 
+import com.zandero.rest.annotation.RequireAllRoles;
 import io.vertx.ext.auth.User;
 
 import javax.annotation.security.DenyAll;
@@ -61,4 +62,14 @@ public class TestAuthorizationRest {
 
 		return user.principal().encode();
 	}
+
+	@GET
+	@Path("/both")
+	@Produces(MediaType.TEXT_PLAIN)
+	@RolesAllowed({"one", "two"})
+	@RequireAllRoles
+	public String oneAndTwo() {
+
+		return "both";
+	}
 }
@@ -0,0 +1,85 @@
+package com.zandero.rest.test;
+
+import com.zandero.rest.annotation.Blocking;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+
+/**
+ *
+ */
+@Path("blocking")
+public class TestBlockingRest {
+
+	@GET
+	@Path("pool")
+	@Blocking(ordered = false, pool = "test-pool", poolSize = 1, maxQueue = 1)
+	public String pool(@QueryParam("wait") long wait) throws InterruptedException {
+
+		Thread.sleep(wait);
+		return Thread.currentThread().getName();
+	}
+
+	@GET
+	@Path("pool2")
+	@Blocking(ordered = false, pool = "test-pool", maxQueue = 1)
+	public String pool2(@QueryParam("wait") long wait) throws InterruptedException {
+
+		Thread.sleep(wait);
+		return Thread.currentThread().getName();
+	}
+
+	@GET
+	@Path("limited")
+	@Blocking(ordered = false, maxQueue = 1)
+	public String limited(@QueryParam("wait") long wait) throws InterruptedException {
+
+		Thread.sleep(wait);
+		return "done";
+	}
+
+	@GET
+	@Path("limited2")
+	@Blocking(ordered = false, maxQueue = 1)
+	public String limited2(@QueryParam("wait") long wait) throws InterruptedException {
+
+		Thread.sleep(wait);
+		return "done";
+	}
+
+	@GET
+	@Path("unordered")
+	@Blocking(ordered = false)
+	public String unordered(@QueryParam("wait") long wait) throws InterruptedException {
+
+		Thread.sleep(wait);
+		return "done";
+	}
+
+	@GET
+	@Path("virtual")
+	@Blocking(virtual = true)
+	public String virtual(@QueryParam("wait") long wait) throws InterruptedException {
+
+		Thread.sleep(wait);
+		return "done";
+	}
+
+	@GET
+	@Path("virtual-thread")
+	@Blocking(virtual = true)
+	public String virtualThread() {
+
+		return Thread.currentThread().getName();
+	}
+
+	@GET
+	@Path("virtual-limited")
+	@Blocking(virtual = true, maxQueue = 1)
+	public String virtualLimited(@QueryParam("wait") long wait) throws InterruptedException {
+
+		Thread.sleep(wait);
+		return "done";
+	}
+}
@@ -1,9 +1,11 @@
 package com.zandero.rest.test;
 
 import com.zandero.rest.data.RouteDefinition;
+import com.zandero.rest.test.data.IntegerHolder;
 import com.zandero.rest.test.json.Dummy;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.auth.User;
 
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
@@ -57,4 +59,18 @@ public class TestContextRest {
 		response.end("Hello world!");
 		return response;
 	}
+
+	@GET
+	@Path("/user")
+	public String getUser(@Context User user) {
+
+		return user == null ? "anonymous" : user.principal().encode();
+	}
+
+	@GET
+	@Path("/data")
+	public String getData(@Context IntegerHolder holder) {
+
+		return Integer.toString(holder.value);
+	}
 }
@@ -0,0 +1,70 @@
+package com.zandero.rest.test;
+
+import com.zandero.rest.annotation.BodyLimit;
+import io.vertx.ext.web.Cookie;
+import io.vertx.ext.web.FileUpload;
+import io.vertx.ext.web.RoutingContext;
+
+import javax.ws.rs.*;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+
+/**
+ *
+ */
+@Path("form")
+public class TestFormRest {
+
+	@POST
+	@Path("login")
+	@Produces(MediaType.TEXT_PLAIN)
+	public String loginForm(@FormParam("username") String username, @FormParam("password") String password) {
+
+		return username + ":" + password;
+	}
+
+	@POST
+	@Path("cookie")
+	@Produces(MediaType.TEXT_PLAIN)
+	public String getCookie(@CookieParam("username") String username) {
+
+		return username;
+	}
+
+	@GET
+	@Path("cookie")
+	@Produces(MediaType.TEXT_PLAIN)
+	public String getCookies(@CookieParam("username") String username, @CookieParam("session") String session) {
+
+		return username + ":" + session;
+	}
+
+	@POST
+	@Path("limited")
+	@Produces(MediaType.TEXT_PLAIN)
+	@BodyLimit(20)
+	public String limitedForm(@FormParam("username") String username) {
+
+		return username;
+	}
+
+	@GET
+	@Path("set-cookie")
+	@Produces(MediaType.TEXT_PLAIN)
+	public String setCookie(@QueryParam("value") String value, @Context RoutingContext context) {
+
+		context.addCookie(Cookie.cookie("session", value));
+		return value;
+	}
+
+	@POST
+	@Path("upload")
+	@Produces(MediaType.TEXT_PLAIN)
+	public String upload(@FormParam("username") String username, @Context RoutingContext context) {
+
+		FileUpload upload = context.fileUploads().iterator().next();
+		String content = context.vertx().fileSystem().readFileBlocking(upload.uploadedFileName()).toString();
+
+		return username + ":" + upload.name() + ":" + upload.fileName() + ":" + upload.size() + ":" + content;
+	}
+}
@@ -4,6 +4,7 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
 /**
  *
@@ -18,4 +19,12 @@ public class TestHtmlRest {
 
 		return "body";
 	}
+
+	@GET
+	@Produces(MediaType.TEXT_HTML)
+	@Path("response")
+	public Response returnResponse() {
+
+		return Response.ok("response").build();
+	}
 }
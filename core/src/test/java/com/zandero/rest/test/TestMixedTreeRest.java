@@ -0,0 +1,44 @@
+package com.zandero.rest.test;
+
+import com.zandero.rest.annotation.RouteOrder;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+/**
+ * Route tree and regular expression routes matching same path
+ */
+@Path("mixed")
+public class TestMixedTreeRest {
+
+	@RouteOrder(1)
+	@GET
+	@Path("/{name:\\w+}")
+	public String regEx(@PathParam("name") String name) {
+
+		return "regEx " + name;
+	}
+
+	@GET
+	@Path("/tree")
+	public String tree() {
+
+		return "tree";
+	}
+
+	@GET
+	@Path("/first")
+	public String treeFirst() {
+
+		return "tree first";
+	}
+
+	@RouteOrder(-1)
+	@GET
+	@Path("/{first:first\\w*}")
+	public String first(@PathParam("first") String first) {
+
+		return "regEx first " + first;
+	}
+}
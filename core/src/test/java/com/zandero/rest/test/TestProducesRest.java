@@ -0,0 +1,34 @@
+package com.zandero.rest.test;
+
+import com.zandero.rest.annotation.Header;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Route producing multiple media types
+ */
+@Path("/produces")
+@Header(name = "Cache-Control", value = "no-cache")
+public class TestProducesRest {
+
+	@GET
+	@Path("/hello")
+	@Produces({MediaType.APPLICATION_JSON, MediaType.TEXT_PLAIN})
+	public String hello() {
+
+		return "hello";
+	}
+
+	@GET
+	@Path("/cached")
+	@Produces(MediaType.TEXT_PLAIN)
+	@Header(name = "cache-control", value = "max-age=60")
+	@Header(name = "X-Custom", value = "custom")
+	public String cached() {
+
+		return "cached";
+	}
+}
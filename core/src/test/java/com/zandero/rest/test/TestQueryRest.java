@@ -0,0 +1,40 @@
+package com.zandero.rest.test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import java.util.List;
+import java.util.Set;
+
+/**
+ *
+ */
+@Path("query")
+public class TestQueryRest {
+
+	@GET
+	@Path("add")
+	public int add(@QueryParam("one") int one, @QueryParam("two") int two) {
+
+		return one + two;
+	}
+
+	@GET
+	@Path("sum")
+	public int sum(@QueryParam("value") List<Integer> values) {
+
+		int sum = 0;
+		for (Integer value : values) {
+			sum = sum + value;
+		}
+
+		return sum;
+	}
+
+	@GET
+	@Path("distinct")
+	public String distinct(@QueryParam("name") Set<String> names) {
+
+		return String.join(",", names);
+	}
+}
@@ -0,0 +1,31 @@
+package com.zandero.rest.test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+/**
+ * Regular expression paths mixed with regular path parameters
+ */
+@Path("regExGroup")
+public class TestRegExGroupRest {
+
+	@GET
+	@Path("/{name}/times/{count:\\d+}")
+	public String times(@PathParam("name") String name, @PathParam("count") int count) {
+
+		StringBuilder out = new StringBuilder();
+		for (int index = 0; index < count; index++) {
+			out.append(name);
+		}
+
+		return out.toString();
+	}
+
+	@GET
+	@Path("/{value:(a|b)+}/{id}")
+	public String group(@PathParam("id") String id, @PathParam("value") String value) {
+
+		return value + id;
+	}
+}
@@ -0,0 +1,75 @@
+package com.zandero.rest.test;
+
+import com.zandero.rest.test.data.ItemReadStream;
+import com.zandero.rest.test.json.Dummy;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.streams.ReadStream;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ *
+ */
+@Path("stream")
+public class TestStreamRest {
+
+	public static final AtomicBoolean closeHandlerCalled = new AtomicBoolean();
+
+	public static final AtomicBoolean streamClosed = new AtomicBoolean();
+
+	public static final AtomicBoolean readStreamEnded = new AtomicBoolean();
+
+	@GET
+	@Path("items")
+	@Produces("application/json")
+	public Stream<Dummy> items(@QueryParam("count") int count) {
+
+		return IntStream.range(0, count).mapToObj(index -> new Dummy("name" + index, "value" + index));
+	}
+
+	@GET
+	@Path("lines")
+	@Produces("application/x-ndjson")
+	public Iterator<Integer> lines(@QueryParam("count") int count) {
+
+		return IntStream.range(0, count).iterator();
+	}
+
+	@GET
+	@Path("threads")
+	@Produces("application/json")
+	public Stream<String> threads(@QueryParam("count") int count) {
+
+		// items are produced as pulled
+		return IntStream.range(0, count).mapToObj(index -> Thread.currentThread().getName());
+	}
+
+	@GET
+	@Path("endless")
+	@Produces("application/json")
+	public Stream<Dummy> endless(@Context HttpServerResponse response) {
+
+		response.closeHandler(aVoid -> closeHandlerCalled.set(true));
+
+		return Stream.generate(() -> new Dummy("name", "value"))
+		             .onClose(() -> streamClosed.set(true));
+	}
+
+	@GET
+	@Path("read")
+	@Produces("application/json")
+	public ReadStream<Dummy> read(@QueryParam("count") int count, @Context Vertx vertx) {
+
+		return new ItemReadStream<>(vertx, count, index -> new Dummy("name" + index, "value" + index),
+		                            aVoid -> readStreamEnded.set(true));
+	}
+}
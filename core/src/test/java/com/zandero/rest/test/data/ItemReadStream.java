@@ -0,0 +1,99 @@
+package com.zandero.rest.test.data;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.streams.ReadStream;
+
+import java.util.function.IntFunction;
+
+/**
+ * Emits given number of items on vert.x context while not paused
+ */
+public class ItemReadStream<T> implements ReadStream<T> {
+
+	private final Vertx vertx;
+
+	private final int count;
+
+	private final IntFunction<T> items;
+
+	private final Handler<Void> onEnd;
+
+	private Handler<T> handler;
+
+	private Handler<Void> endHandler;
+
+	private boolean paused;
+
+	private int index = 0;
+
+	/**
+	 * @param vertx  to emit items on
+	 * @param total  number of items to emit
+	 * @param item   produces item for given index
+	 * @param ended  called once all items are emitted
+	 */
+	public ItemReadStream(Vertx vertx, int total, IntFunction<T> item, Handler<Void> ended) {
+
+		this.vertx = vertx;
+		count = total;
+		items = item;
+		onEnd = ended;
+	}
+
+	@Override
+	public ReadStream<T> exceptionHandler(Handler<Throwable> exceptionHandler) {
+
+		return this;
+	}
+
+	@Override
+	public ReadStream<T> handler(Handler<T> itemHandler) {
+
+		handler = itemHandler;
+		if (handler != null) {
+			vertx.runOnContext(aVoid -> emit());
+		}
+
+		return this;
+	}
+
+	@Override
+	public ReadStream<T> pause() {
+
+		paused = true;
+		return this;
+	}
+
+	@Override
+	public ReadStream<T> resume() {
+
+		paused = false;
+		vertx.runOnContext(aVoid -> emit());
+		return this;
+	}
+
+	@Override
+	public ReadStream<T> endHandler(Handler<Void> handler) {
+
+		endHandler = handler;
+		return this;
+	}
+
+	private void emit() {
+
+		while (!paused && handler != null && index < count) {
+			handler.handle(items.apply(index++));
+		}
+
+		if (index == count) {
+			index++; // end only once
+
+			if (endHandler != null) {
+				endHandler.handle(null);
+			}
+
+			onEnd.handle(null);
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package com.zandero.rest.test.data;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.auth.AbstractUser;
+import io.vertx.ext.auth.AuthProvider;
+import io.vertx.ext.auth.User;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * User with multiple roles, counts role checks
+ */
+public class RolesUser extends AbstractUser {
+
+	private final Set<String> roles;
+
+	private int checks = 0;
+
+	public RolesUser(String... roles) {
+
+		this.roles = new HashSet<>(Arrays.asList(roles));
+	}
+
+	public int getChecks() {
+
+		return checks;
+	}
+
+	@Override
+	public User isAuthorised(String authority, Handler<AsyncResult<Boolean>> resultHandler) {
+
+		// bypass permission cache of AbstractUser ... to count every check
+		doIsPermitted(authority, resultHandler);
+		return this;
+	}
+
+	@Override
+	protected void doIsPermitted(String permission, Handler<AsyncResult<Boolean>> resultHandler) {
+
+		checks++;
+		resultHandler.handle(Future.succeededFuture(roles.contains(permission)));
+	}
+
+	@Override
+	public JsonObject principal() {
+
+		JsonObject json = new JsonObject();
+		json.put("roles", String.join(",", roles));
+		return json;
+	}
+
+	@Override
+	public void setAuthProvider(AuthProvider authProvider) {
+
+	}
+}
@@ -0,0 +1,17 @@
+package com.zandero.rest.test.writer;
+
+import com.zandero.rest.writer.HttpResponseWriter;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ *
+ */
+public class TestHtmlWriter implements HttpResponseWriter<String> {
+
+	@Override
+	public void write(String result, HttpServerRequest request, HttpServerResponse response) {
+
+		response.end("<html>" + result + "</html>");
+	}
+}
@@ -0,0 +1,736 @@
+package com.zandero.rest.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Generates a route binder for each REST API class (class with JAX-RS {@code @Path} annotated methods, declared or inherited)
+ *
+ * Generated binder holds route definitions and typed method invokers
+ * and is listed in META-INF/services, so RestRouter.register() picks it up via ServiceLoader and no reflection is needed to bind routes.
+ * Annotation values are read at compile time and set on route definitions by value,
+ * in the same order as annotations are applied when read via reflection.
+ */
+@SupportedAnnotationTypes("*") // REST API might only inherit annotated methods
+public class RouteBinderProcessor extends AbstractProcessor {
+
+	private static final String PATH = "javax.ws.rs.Path";
+
+	private static final String JAX_RS = "javax.ws.rs.";
+
+	private static final String REST = "com.zandero.rest.annotation.";
+
+	private static final String SECURITY = "javax.annotation.security.";
+
+	private static final List<String> HTTP_METHODS = Arrays.asList("GET", "POST", "PUT", "DELETE", "HEAD", "OPTIONS");
+
+	private static final String BINDER = "com.zandero.rest.data.RouteBinder";
+
+	private static final String BINDER_SUFFIX = "_RouteBinder";
+
+	private static final String DEFINITION = "com.zandero.rest.data.RouteDefinition";
+
+	private static final String INVOKER = "com.zandero.rest.data.MethodInvoker";
+
+	private static final String PARAMETER_TYPE = "com.zandero.rest.data.ParameterType";
+
+	private static final String SERVICES = "META-INF/services/" + BINDER;
+
+	private Elements elements;
+
+	private Types types;
+
+	/**
+	 * binders generated in all rounds, listed in services file once processing is over
+	 */
+	private final Set<String> binders = new TreeSet<>();
+
+	/**
+	 * Thrown when a REST API can't be bound from generated code (it is bound via reflection instead)
+	 */
+	private static class NotBindableException extends Exception {
+
+		NotBindableException(String message) {
+
+			super(message);
+		}
+	}
+
+	@Override
+	public synchronized void init(ProcessingEnvironment environment) {
+
+		super.init(environment);
+
+		elements = environment.getElementUtils();
+		types = environment.getTypeUtils();
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+		if (roundEnv.processingOver()) {
+			writeServices();
+			return false;
+		}
+
+		if (elements.getTypeElement(PATH) == null) {
+			return false; // JAX-RS not on class path ... nothing to do
+		}
+
+		// collect REST API classes ... all classes of this round as route methods might be inherited
+		List<TypeElement> apis = new ArrayList<>();
+		collect(ElementFilter.typesIn(roundEnv.getRootElements()), apis);
+
+		for (TypeElement api : apis) {
+
+			if (!isBindable(api)) {
+				continue; // will be bound via reflection
+			}
+
+			List<ExecutableElement> methods = getRouteMethods(api);
+			if (methods.isEmpty()) {
+				continue; // no REST API
+			}
+
+			try {
+				generate(api, methods);
+			}
+			catch (NotBindableException e) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Route binder not generated, REST API is bound via reflection: " + e.getMessage(), api);
+			}
+			catch (IOException e) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to generate route binder: " + e.getMessage(), api);
+			}
+		}
+
+		return false; // annotations are not claimed
+	}
+
+	private void collect(Collection<TypeElement> found, List<TypeElement> output) {
+
+		for (TypeElement type : found) {
+
+			if (type.getKind() == ElementKind.CLASS) {
+				output.add(type);
+			}
+
+			collect(ElementFilter.typesIn(type.getEnclosedElements()), output);
+		}
+	}
+
+	/**
+	 * Only concrete classes accessible from the same package can be bound
+	 */
+	private boolean isBindable(TypeElement api) {
+
+		Set<Modifier> modifiers = api.getModifiers();
+		if (modifiers.contains(Modifier.ABSTRACT) || modifiers.contains(Modifier.PRIVATE)) {
+			return false;
+		}
+
+		if (api.getNestingKind() != NestingKind.TOP_LEVEL && api.getNestingKind() != NestingKind.MEMBER) {
+			return false; // local or anonymous
+		}
+
+		Element enclosing = api.getEnclosingElement();
+		while (enclosing instanceof TypeElement) {
+			if (enclosing.getModifiers().contains(Modifier.PRIVATE)) {
+				return false;
+			}
+
+			enclosing = enclosing.getEnclosingElement();
+		}
+
+		return true;
+	}
+
+	private void generate(TypeElement api, List<ExecutableElement> methods) throws IOException, NotBindableException {
+
+		String packageName = elements.getPackageOf(api).getQualifiedName().toString();
+		String binaryName = elements.getBinaryName(api).toString();
+
+		String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)).replace('$', '_') + BINDER_SUFFIX;
+		String binderName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+		String apiType = types.erasure(api.asType()).toString();
+
+		StringBuilder out = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			out.append("package ").append(packageName).append(";\n\n");
+		}
+
+		out.append("/**\n")
+		   .append(" * Route binder for ").append(apiType).append("\n")
+		   .append(" * generated by ").append(RouteBinderProcessor.class.getName()).append(" - do not edit\n")
+		   .append(" */\n")
+		   .append("public final class ").append(simpleName).append(" implements ").append(BINDER).append(" {\n\n")
+
+		   .append("\t@Override\n")
+		   .append("\tpublic Class<?> getApiClass() {\n\n")
+		   .append("\t\treturn ").append(apiType).append(".class;\n")
+		   .append("\t}\n\n")
+
+		   .append("\t@Override\n")
+		   .append("\t@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+		   .append("\tpublic java.util.Map<").append(DEFINITION).append(", ").append(INVOKER).append("> bind(Object instance) {\n\n")
+		   .append("\t\tfinal ").append(apiType).append(" api = (").append(apiType).append(") instance;\n\n")
+		   .append("\t\tjava.util.Map<").append(DEFINITION).append(", ").append(INVOKER).append("> output = new java.util.LinkedHashMap<>();\n\n")
+		   .append("\t\t// base\n")
+		   .append("\t\t").append(DEFINITION).append(" root = new ").append(DEFINITION).append("()")
+		   .append(definition(getRootAnnotations(api), packageName, "\t\t\t")).append(";\n")
+		   .append("\t\t").append(DEFINITION).append(" definition;\n");
+
+		for (ExecutableElement method : methods) {
+			appendRoute(out, apiType, packageName, method);
+		}
+
+		out.append("\n\t\treturn output;\n")
+		   .append("\t}\n")
+		   .append("}\n");
+
+		JavaFileObject file = processingEnv.getFiler().createSourceFile(binderName, api);
+		try (Writer writer = file.openWriter()) {
+			writer.write(out.toString());
+		}
+
+		binders.add(binderName);
+	}
+
+	/**
+	 * Lists generated binders as RouteBinder services (merged with binders listed by a previous compilation)
+	 */
+	private void writeServices() {
+
+		if (binders.isEmpty()) {
+			return;
+		}
+
+		Set<String> services = new TreeSet<>(binders);
+		try {
+			FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICES);
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+
+				String line;
+				while ((line = reader.readLine()) != null) {
+					line = line.trim();
+					if (!line.isEmpty() && !line.startsWith("#")) {
+						services.add(line);
+					}
+				}
+			}
+		}
+		catch (IOException | IllegalArgumentException e) {
+			// no previous services file
+		}
+
+		try {
+			FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICES);
+			try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+				for (String service : services) {
+					writer.write(service);
+					writer.write("\n");
+				}
+			}
+		}
+		catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + SERVICES + ": " + e.getMessage());
+		}
+	}
+
+	private void appendRoute(StringBuilder out, String apiType, String packageName, ExecutableElement method) throws NotBindableException {
+
+		String name = method.getSimpleName().toString();
+		List<? extends VariableElement> parameters = method.getParameters();
+
+		List<String> parameterTypes = new ArrayList<>();
+		List<String> parameterNames = new ArrayList<>();
+		List<String> kinds = new ArrayList<>();
+		List<String> names = new ArrayList<>();
+		List<String> defaultValues = new ArrayList<>();
+		List<String> elementTypes = new ArrayList<>();
+		List<String> arguments = new ArrayList<>();
+		boolean hasElementTypes = false;
+
+		for (int index = 0; index < parameters.size(); index++) {
+
+			VariableElement parameter = parameters.get(index);
+			String type = classLiteral(parameter.asType(), packageName);
+
+			parameterTypes.add(type + ".class");
+			parameterNames.add(literal(parameter.getSimpleName().toString()));
+			appendParameter(parameter, kinds, names, defaultValues);
+
+			TypeMirror elementType = elementType(parameter.asType());
+			hasElementTypes = hasElementTypes || elementType != null;
+			elementTypes.add(elementType == null ? "null" : classLiteral(elementType, packageName) + ".class");
+			arguments.add("(" + type + ") args[" + index + "]");
+		}
+
+		String target = method.getModifiers().contains(Modifier.STATIC) ? apiType : "api";
+		String call = target + "." + name + "(" + join(arguments) + ")";
+
+		boolean isVoid = method.getReturnType().getKind() == TypeKind.VOID;
+		String body = isVoid ? "{ " + call + "; return null; }" : call;
+
+		if (throwsThrowable(method)) {
+			body = "{ try { " + (isVoid ? call + "; return null;" : "return " + call + ";") + " }" +
+			       " catch (Exception | Error e) { throw e; }" +
+			       " catch (Throwable e) { throw new java.lang.reflect.InvocationTargetException(e); } }";
+		}
+
+		out.append("\n\t\t// ").append(name).append("()\n")
+		   .append("\t\ttry {\n")
+		   .append("\t\t\tdefinition = new ").append(DEFINITION).append("(root)")
+		   .append(definition(method.getAnnotationMirrors(), packageName, "\t\t\t\t")).append(";\n")
+		   .append("\t\t\tdefinition.setArguments(new Class<?>[]{").append(join(parameterTypes)).append("},\n")
+		   .append("\t\t\t                        new String[]{").append(join(parameterNames)).append("},\n")
+		   .append("\t\t\t                        new ").append(PARAMETER_TYPE).append("[]{").append(join(kinds)).append("},\n")
+		   .append("\t\t\t                        new String[]{").append(join(names)).append("},\n")
+		   .append("\t\t\t                        new String[]{").append(join(defaultValues)).append("});\n")
+		   .append("\t\t\tdefinition.setReturnType(").append(returnType(method.getReturnType(), packageName)).append(");\n");
+
+		if (hasElementTypes) {
+			out.append("\t\t\tdefinition.setElementTypes(new Class<?>[]{").append(join(elementTypes)).append("});\n");
+		}
+
+		out.append("\n")
+		   .append("\t\t\toutput.put(definition, args -> ").append(body).append(");\n")
+		   .append("\t\t}\n")
+		   .append("\t\tcatch (IllegalArgumentException e) {\n")
+		   .append("\t\t\tthrow new IllegalArgumentException(").append(apiType).append(".class + \".").append(name).append("() - \" + e.getMessage());\n")
+		   .append("\t\t}\n");
+	}
+
+	/**
+	 * Parameter type, name and default value of argument, same as RouteDefinition.setArguments() reads them from annotations
+	 */
+	private void appendParameter(VariableElement parameter, List<String> kinds, List<String> names, List<String> defaultValues) {
+
+		String kind = null;
+		String name = null;
+		String defaultValue = null;
+
+		for (AnnotationMirror mirror : parameter.getAnnotationMirrors()) {
+
+			String annotation = getName(mirror);
+			String value = annotation.startsWith(JAX_RS) ? literal(String.valueOf(getValue(mirror, "value"))) : null;
+
+			switch (annotation) {
+				case JAX_RS + "PathParam":
+					kind = "path";
+					name = value;
+					break;
+
+				case JAX_RS + "QueryParam":
+					kind = "query";
+					name = value;
+					break;
+
+				case JAX_RS + "FormParam":
+					kind = "form";
+					name = value;
+					break;
+
+				case JAX_RS + "CookieParam":
+					kind = "cookie";
+					name = value;
+					break;
+
+				case JAX_RS + "HeaderParam":
+					kind = "header";
+					name = value;
+					break;
+
+				case JAX_RS + "DefaultValue":
+					defaultValue = value;
+					break;
+
+				case JAX_RS + "core.Context":
+					kind = "context";
+					name = null; // argument name is used
+					break;
+			}
+		}
+
+		kinds.add(kind == null ? "null" : PARAMETER_TYPE + "." + kind);
+		names.add(name == null ? "null" : name);
+		defaultValues.add(defaultValue == null ? "null" : defaultValue);
+	}
+
+	/**
+	 * Route specifics set by value, in annotation order (same as RouteDefinition reads annotations via reflection)
+	 */
+	private String definition(List<? extends AnnotationMirror> mirrors, String packageName, String indent) throws NotBindableException {
+
+		StringBuilder out = new StringBuilder();
+		for (AnnotationMirror mirror : mirrors) {
+
+			String annotation = getName(mirror);
+			String simpleName = annotation.substring(annotation.lastIndexOf('.') + 1);
+
+			switch (annotation) {
+				case REST + "RouteOrder":
+					call(out, indent, "order", value(mirror, "value", packageName));
+					break;
+
+				case JAX_RS + "Path":
+					call(out, indent, "path", value(mirror, "value", packageName));
+					break;
+
+				case JAX_RS + "Produces":
+					call(out, indent, "produces", value(mirror, "value", packageName));
+					break;
+
+				case JAX_RS + "Consumes":
+					call(out, indent, "consumes", value(mirror, "value", packageName));
+					break;
+
+				case REST + "ResponseWriter":
+					call(out, indent, "writer", value(mirror, "value", packageName));
+					break;
+
+				case REST + "RequestReader":
+					call(out, indent, "reader", value(mirror, "value", packageName));
+					break;
+
+				case REST + "BodyLimit":
+					call(out, indent, "bodyLimit", value(mirror, "value", packageName));
+					break;
+
+				case REST + "Header":
+					call(out, indent, "header", value(mirror, "name", packageName), value(mirror, "value", packageName));
+					break;
+
+				case REST + "Headers":
+					for (AnnotationValue header : getValues(mirror)) {
+						AnnotationMirror item = (AnnotationMirror) header.getValue();
+						call(out, indent, "header", value(item, "name", packageName), value(item, "value", packageName));
+					}
+					break;
+
+				case REST + "Blocking":
+					call(out, indent, "blocking",
+					     value(mirror, "value", packageName),
+					     value(mirror, "ordered", packageName),
+					     value(mirror, "pool", packageName),
+					     value(mirror, "poolSize", packageName),
+					     value(mirror, "maxQueue", packageName),
+					     value(mirror, "virtual", packageName));
+					break;
+
+				case SECURITY + "RolesAllowed":
+					call(out, indent, "rolesAllowed", value(mirror, "value", packageName));
+					break;
+
+				case REST + "RequireAllRoles":
+					call(out, indent, "requireAllRoles", value(mirror, "value", packageName));
+					break;
+
+				case SECURITY + "DenyAll":
+					call(out, indent, "denyAll");
+					break;
+
+				case SECURITY + "PermitAll":
+					call(out, indent, "permitAll");
+					break;
+
+				case REST + "CatchWith":
+					call(out, indent, "catchWith", value(mirror, "value", packageName));
+					break;
+
+				default:
+					if (annotation.startsWith(JAX_RS) && HTTP_METHODS.contains(simpleName)) {
+						call(out, indent, "method", literal(simpleName));
+					}
+			}
+		}
+
+		return out.toString();
+	}
+
+	private static void call(StringBuilder out, String indent, String method, String... arguments) {
+
+		out.append("\n").append(indent).append(".").append(method).append("(").append(String.join(", ", arguments)).append(")");
+	}
+
+	/**
+	 * @return return type and type argument of generic return type (asynchronous result type) if any
+	 */
+	private String returnType(TypeMirror type, String packageName) throws NotBindableException {
+
+		String output = classLiteral(type, packageName) + ".class";
+
+		TypeMirror typeArgument = elementType(type);
+		return typeArgument == null ? output : output + ", " + classLiteral(typeArgument, packageName) + ".class";
+	}
+
+	/**
+	 * @return type argument of single argument generic type (collection element type) or null
+	 */
+	private TypeMirror elementType(TypeMirror type) {
+
+		if (type.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+
+		List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+		if (arguments.size() != 1 || arguments.get(0).getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+
+		return arguments.get(0);
+	}
+
+	/**
+	 * @return erased type name, type must be accessible from generated binder
+	 */
+	private String classLiteral(TypeMirror type, String packageName) throws NotBindableException {
+
+		TypeMirror erased = types.erasure(type);
+
+		TypeMirror component = erased;
+		while (component.getKind() == TypeKind.ARRAY) {
+			component = ((ArrayType) component).getComponentType();
+		}
+
+		if (component.getKind() == TypeKind.DECLARED) {
+
+			Element element = types.asElement(component);
+			while (element instanceof TypeElement) {
+
+				Set<Modifier> modifiers = element.getModifiers();
+				if (modifiers.contains(Modifier.PRIVATE) ||
+				    (!modifiers.contains(Modifier.PUBLIC) && !elements.getPackageOf(element).getQualifiedName().contentEquals(packageName))) {
+					throw new NotBindableException(component + " is not accessible");
+				}
+
+				element = element.getEnclosingElement();
+			}
+		}
+
+		return erased.toString();
+	}
+
+	/**
+	 * Same as Class.getMethods() with @Path annotation (public methods including inherited ones)
+	 */
+	private List<ExecutableElement> getRouteMethods(TypeElement api) {
+
+		List<ExecutableElement> output = new ArrayList<>();
+		for (ExecutableElement member : ElementFilter.methodsIn(elements.getAllMembers(api))) {
+
+			if (member.getModifiers().contains(Modifier.PUBLIC) && hasAnnotation(member, PATH)) {
+				output.add(member);
+			}
+		}
+
+		return output;
+	}
+
+	/**
+	 * Annotations of class, its interface or parent class annotated with @Path (or class itself if none is annotated)
+	 */
+	private List<? extends AnnotationMirror> getRootAnnotations(TypeElement api) {
+
+		TypeElement annotated = getClassWithPath(api);
+		return annotated != null ? annotated.getAnnotationMirrors() : api.getAnnotationMirrors();
+	}
+
+	private TypeElement getClassWithPath(TypeElement type) {
+
+		if (hasAnnotation(type, PATH)) {
+			return type;
+		}
+
+		for (TypeMirror inter : type.getInterfaces()) {
+			Element element = types.asElement(inter);
+			if (element != null && hasAnnotation(element, PATH)) {
+				return (TypeElement) element;
+			}
+		}
+
+		TypeMirror superClass = type.getSuperclass();
+		if (superClass.getKind() == TypeKind.DECLARED) {
+
+			TypeElement element = (TypeElement) types.asElement(superClass);
+			if (!element.getQualifiedName().contentEquals(Object.class.getName())) {
+				return getClassWithPath(element);
+			}
+		}
+
+		return null;
+	}
+
+	private boolean hasAnnotation(Element element, String annotation) {
+
+		for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+			if (getName(mirror).equals(annotation)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static String getName(AnnotationMirror mirror) {
+
+		return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+	}
+
+	private boolean throwsThrowable(ExecutableElement method) {
+
+		TypeMirror exception = elements.getTypeElement(Exception.class.getName()).asType();
+		TypeMirror error = elements.getTypeElement(Error.class.getName()).asType();
+
+		for (TypeMirror thrown : method.getThrownTypes()) {
+			if (!types.isAssignable(thrown, exception) && !types.isAssignable(thrown, error)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> getElement(AnnotationMirror mirror, String name) {
+
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals(name)) {
+				return entry;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * @return annotation element value (or default value)
+	 */
+	private Object getValue(AnnotationMirror mirror, String name) {
+
+		Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> element = getElement(mirror, name);
+		return element == null ? null : element.getValue().getValue();
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<? extends AnnotationValue> getValues(AnnotationMirror mirror) {
+
+		Object value = getValue(mirror, "value");
+		return value instanceof List ? (List<? extends AnnotationValue>) value : Collections.emptyList();
+	}
+
+	/**
+	 * @return annotation element value (or default value) as Java expression
+	 */
+	private String value(AnnotationMirror mirror, String name, String packageName) throws NotBindableException {
+
+		Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> element = getElement(mirror, name);
+		if (element == null) {
+			return "null";
+		}
+
+		return value(element.getKey().getReturnType(), element.getValue().getValue(), packageName);
+	}
+
+	@SuppressWarnings("unchecked")
+	private String value(TypeMirror type, Object item, String packageName) throws NotBindableException {
+
+		if (item instanceof String) {
+			return literal((String) item);
+		}
+
+		if (item instanceof Long) {
+			return item + "L";
+		}
+
+		if (item instanceof TypeMirror) { // class
+			return classLiteral((TypeMirror) item, packageName) + ".class";
+		}
+
+		if (item instanceof List) { // array (of strings or classes)
+
+			TypeMirror component = ((ArrayType) type).getComponentType();
+
+			List<String> items = new ArrayList<>();
+			for (AnnotationValue arrayItem : (List<? extends AnnotationValue>) item) {
+				items.add(value(component, arrayItem.getValue(), packageName));
+			}
+
+			return "new " + types.erasure(component) + "[]{" + join(items) + "}";
+		}
+
+		return String.valueOf(item); // boolean or int
+	}
+
+	private static String literal(String value) {
+
+		return "\"" + escape(value) + "\"";
+	}
+
+	private static String escape(String value) {
+
+		StringBuilder out = new StringBuilder();
+		for (char character : value.toCharArray()) {
+
+			switch (character) {
+				case '\\':
+					out.append("\\\\");
+					break;
+
+				case '"':
+					out.append("\\\"");
+					break;
+
+				case '\n':
+					out.append("\\n");
+					break;
+
+				case '\r':
+					out.append("\\r");
+					break;
+
+				case '\t':
+					out.append("\\t");
+					break;
+
+				default:
+					if (character < 0x20 || character > 0x7e) {
+						out.append(String.format("\\u%04x", (int) character));
+					}
+					else {
+						out.append(character);
+					}
+			}
+		}
+
+		return out.toString();
+	}
+
+	private static String join(List<String> items) {
+
+		return String.join(", ", items);
+	}
+}